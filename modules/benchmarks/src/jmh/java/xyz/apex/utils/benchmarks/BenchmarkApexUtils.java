@@ -0,0 +1,25 @@
+package xyz.apex.utils.benchmarks;
+
+import xyz.apex.utils.core.ApexUtils;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// keeps benchmark configs out of the working directory
+public final class BenchmarkApexUtils implements ApexUtils
+{
+    private final Path root = Paths.get(System.getProperty("java.io.tmpdir"), "apexutils-benchmarks");
+    private final Path configDir = root.resolve("config");
+
+    @Override
+    public Path rootPath()
+    {
+        return root;
+    }
+
+    @Override
+    public Path configsDir()
+    {
+        return configDir;
+    }
+}
@@ -0,0 +1,67 @@
+package xyz.apex.utils.benchmarks.config;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.apex.utils.config.Config;
+import xyz.apex.utils.config.ConfigBuilder;
+import xyz.apex.utils.config.ConfigValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+// full load and save round trips, against the number of keys in the config
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class ConfigBenchmark
+{
+    @Param({ "10", "1000", "100000" })
+    public int keyCount;
+
+    private Config config;
+    private ConfigValue.Integer value;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException
+    {
+        var builder = ConfigBuilder.builder("benchmark_%d".formatted(keyCount));
+
+        for(var i = 0; i < keyCount; i++)
+        {
+            // mix of value types, roughly matching a real config
+            switch(i % 4)
+            {
+                case 0 -> builder.defineInteger("integer_%d".formatted(i), i);
+                case 1 -> builder.defineString("string_%d".formatted(i), "value_%d".formatted(i));
+                case 2 -> builder.defineBoolean("boolean_%d".formatted(i), i % 3 == 0);
+                default -> builder.defineDouble("double_%d".formatted(i), i / 10D);
+            }
+        }
+
+        value = builder.defineInteger("benchmark_value", 0);
+        config = builder.build();
+        // start from a freshly written file, not one left over from another version
+        Files.deleteIfExists(config.path());
+        config.load();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(config.path());
+    }
+
+    @Benchmark
+    public Config load()
+    {
+        config.load();
+        return config;
+    }
+
+    @Benchmark
+    public Config save()
+    {
+        // configs only write to disk while dirty
+        value.set(value.get() + 1);
+        config.save();
+        return config;
+    }
+}
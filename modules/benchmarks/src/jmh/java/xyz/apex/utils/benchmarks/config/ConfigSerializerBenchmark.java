@@ -0,0 +1,84 @@
+package xyz.apex.utils.benchmarks.config;
+
+import com.google.gson.JsonElement;
+import org.openjdk.jmh.annotations.*;
+import xyz.apex.utils.config.ConfigSerializer;
+import xyz.apex.utils.config.ConfigSerializers;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+// serialize and deserialize throughput of every built in serializer
+@State(Scope.Benchmark)
+public class ConfigSerializerBenchmark
+{
+    private static final int LIST_SIZE = 16;
+
+    @Param({ "STRING", "INTEGER", "DOUBLE", "FLOAT", "LONG", "BOOLEAN", "STRING_LIST", "INTEGER_LIST", "DOUBLE_LIST", "FLOAT_LIST", "LONG_LIST", "BOOLEAN_LIST" })
+    public String serializerType;
+
+    private Case<?> benchmarkCase;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        benchmarkCase = switch(serializerType)
+        {
+            case "STRING" -> new Case<>(ConfigSerializers.STRING, "some_config_value");
+            case "INTEGER" -> new Case<>(ConfigSerializers.INTEGER, 420);
+            case "DOUBLE" -> new Case<>(ConfigSerializers.DOUBLE, 4.2D);
+            case "FLOAT" -> new Case<>(ConfigSerializers.FLOAT, 4.2F);
+            case "LONG" -> new Case<>(ConfigSerializers.LONG, 420L);
+            case "BOOLEAN" -> new Case<>(ConfigSerializers.BOOLEAN, true);
+            case "STRING_LIST" -> new Case<>(ConfigSerializers.STRING_LIST, list(i -> "value_%d".formatted(i)));
+            case "INTEGER_LIST" -> new Case<>(ConfigSerializers.INTEGER_LIST, list(i -> i));
+            case "DOUBLE_LIST" -> new Case<>(ConfigSerializers.DOUBLE_LIST, list(i -> i / 10D));
+            case "FLOAT_LIST" -> new Case<>(ConfigSerializers.FLOAT_LIST, list(i -> i / 10F));
+            case "LONG_LIST" -> new Case<>(ConfigSerializers.LONG_LIST, list(i -> (long) i));
+            case "BOOLEAN_LIST" -> new Case<>(ConfigSerializers.BOOLEAN_LIST, list(i -> i % 2 == 0));
+            default -> throw new IllegalArgumentException("Unknown serializer type: '%s'".formatted(serializerType));
+        };
+    }
+
+    @Benchmark
+    public JsonElement serialize()
+    {
+        return benchmarkCase.serialize();
+    }
+
+    @Benchmark
+    public Object deserialize()
+    {
+        return benchmarkCase.deserialize();
+    }
+
+    private static <T> List<T> list(IntFunction<T> factory)
+    {
+        return IntStream.range(0, LIST_SIZE).mapToObj(factory).toList();
+    }
+
+    private static final class Case<T>
+    {
+        private final ConfigSerializer<T> serializer;
+        private final T value;
+        private final JsonElement json;
+
+        private Case(ConfigSerializer<T> serializer, T value)
+        {
+            this.serializer = serializer;
+            this.value = value;
+            json = serializer.serialize(value);
+        }
+
+        private JsonElement serialize()
+        {
+            return serializer.serialize(value);
+        }
+
+        private T deserialize()
+        {
+            return serializer.deserialize(value, json);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package xyz.apex.utils.benchmarks.events;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class BenchmarkEvent extends SimpleCancelableEvent
+{
+    public static final EventType<BenchmarkEvent> EVENT_TYPE = EventType.register(BenchmarkEvent.class, Integer.class);
+
+    public final int value;
+
+    public BenchmarkEvent(Integer value)
+    {
+        this.value = value;
+    }
+}
@@ -0,0 +1,24 @@
+package xyz.apex.utils.benchmarks.events;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.ReusableEvent;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class BenchmarkReusableEvent extends SimpleCancelableEvent implements ReusableEvent
+{
+    public static final EventType<BenchmarkReusableEvent> EVENT_TYPE = EventType.builder(BenchmarkReusableEvent.class, Integer.class).reusable().register();
+
+    public int value = -1;
+
+    public void init(Integer value)
+    {
+        this.value = value;
+    }
+
+    @Override
+    public void reset()
+    {
+        clearCancelled();
+        value = -1;
+    }
+}
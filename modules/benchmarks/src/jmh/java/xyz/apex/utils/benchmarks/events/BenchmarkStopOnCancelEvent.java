@@ -0,0 +1,16 @@
+package xyz.apex.utils.benchmarks.events;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class BenchmarkStopOnCancelEvent extends SimpleCancelableEvent
+{
+    public static final EventType<BenchmarkStopOnCancelEvent> EVENT_TYPE = EventType.builder(BenchmarkStopOnCancelEvent.class, Integer.class).stopOnCancel().register();
+
+    public final int value;
+
+    public BenchmarkStopOnCancelEvent(Integer value)
+    {
+        this.value = value;
+    }
+}
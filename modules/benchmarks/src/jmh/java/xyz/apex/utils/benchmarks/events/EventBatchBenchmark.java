@@ -0,0 +1,60 @@
+package xyz.apex.utils.benchmarks.events;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// batched posting against a loop of single posts, for the same number of events
+@State(Scope.Benchmark)
+public class EventBatchBenchmark
+{
+    @Param({ "10", "100", "1000" })
+    public int eventCount;
+
+    @Param({ "1", "10" })
+    public int listenerCount;
+
+    private int sink = 0;
+    private List<Integer> eventArgs = List.of();
+    private List<Consumer<BenchmarkEvent>> listeners = List.of();
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        eventArgs = IntStream.range(0, eventCount).boxed().toList();
+        listeners = IntStream.range(0, listenerCount).<Consumer<BenchmarkEvent>>mapToObj(i -> event -> sink += event.value).toList();
+        listeners.forEach(BenchmarkEvent.EVENT_TYPE::addListener);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        listeners.forEach(BenchmarkEvent.EVENT_TYPE::removeListener);
+    }
+
+    @Benchmark
+    public void postLoop(Blackhole blackhole)
+    {
+        for(var eventArg : eventArgs)
+        {
+            blackhole.consume(BenchmarkEvent.EVENT_TYPE.post(eventArg));
+        }
+    }
+
+    @Benchmark
+    public void postAll(Blackhole blackhole)
+    {
+        blackhole.consume(BenchmarkEvent.EVENT_TYPE.postAll(eventArgs));
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole)
+    {
+        var batch = BenchmarkEvent.EVENT_TYPE.batch();
+        for(var eventArg : eventArgs) batch.add(eventArg);
+        blackhole.consume(batch.post());
+    }
+}
@@ -0,0 +1,63 @@
+package xyz.apex.utils.benchmarks.events;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.EventType;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// cost of cancelling events, 10 listeners with the first one cancelling every other post
+@State(Scope.Benchmark)
+public class EventCancelBenchmark
+{
+    private static final int LISTENER_COUNT = 10;
+
+    private int sink = 0;
+    private int counter = 0;
+    private List<Consumer<BenchmarkEvent>> listeners = List.of();
+    private List<Consumer<BenchmarkStopOnCancelEvent>> stopOnCancelListeners = List.of();
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        listeners = register(BenchmarkEvent.EVENT_TYPE, event -> {
+            if(event.value % 2 == 0) event.cancel();
+        });
+
+        stopOnCancelListeners = register(BenchmarkStopOnCancelEvent.EVENT_TYPE, event -> {
+            if(event.value % 2 == 0) event.cancel();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        listeners.forEach(BenchmarkEvent.EVENT_TYPE::removeListener);
+        stopOnCancelListeners.forEach(BenchmarkStopOnCancelEvent.EVENT_TYPE::removeListener);
+    }
+
+    @Benchmark
+    public int cancel()
+    {
+        return BenchmarkEvent.EVENT_TYPE.postForOutcome(counter++);
+    }
+
+    @Benchmark
+    public int stopOnCancel()
+    {
+        return BenchmarkStopOnCancelEvent.EVENT_TYPE.postForOutcome(counter++);
+    }
+
+    private <E extends Event> List<Consumer<E>> register(EventType<E> eventType, Consumer<E> canceller)
+    {
+        eventType.addListener(EventPriority.HIGHEST, canceller);
+        // remaining listeners skip cancelled events, unless the event type stops on cancel outright
+        var listeners = IntStream.range(1, LISTENER_COUNT).<Consumer<E>>mapToObj(i -> event -> sink += i).toList();
+        listeners.forEach(listener -> eventType.addListener(EventPriority.NORMAL, false, listener));
+        return Stream.concat(Stream.of(canceller), listeners.stream()).toList();
+    }
+}
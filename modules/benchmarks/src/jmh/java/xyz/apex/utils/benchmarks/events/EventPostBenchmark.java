@@ -0,0 +1,68 @@
+package xyz.apex.utils.benchmarks.events;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// post throughput against the number of registered listeners
+@State(Scope.Benchmark)
+public class EventPostBenchmark
+{
+    @Param({ "0", "1", "10", "100" })
+    public int listenerCount;
+
+    private int sink = 0;
+    private List<Consumer<BenchmarkEvent>> listeners = List.of();
+    private List<Consumer<BenchmarkReusableEvent>> reusableListeners = List.of();
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        listeners = register(BenchmarkEvent.EVENT_TYPE);
+        reusableListeners = register(BenchmarkReusableEvent.EVENT_TYPE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        listeners.forEach(BenchmarkEvent.EVENT_TYPE::removeListener);
+        reusableListeners.forEach(BenchmarkReusableEvent.EVENT_TYPE::removeListener);
+    }
+
+    @Benchmark
+    public void post(Blackhole blackhole)
+    {
+        blackhole.consume(BenchmarkEvent.EVENT_TYPE.post(1));
+    }
+
+    @Benchmark
+    public void postVarargs(Blackhole blackhole)
+    {
+        blackhole.consume(BenchmarkEvent.EVENT_TYPE.post(new Object[] { 1 }));
+    }
+
+    @Benchmark
+    public int postForOutcome()
+    {
+        return BenchmarkEvent.EVENT_TYPE.postForOutcome(1);
+    }
+
+    @Benchmark
+    public void postReusable(Blackhole blackhole)
+    {
+        blackhole.consume(BenchmarkReusableEvent.EVENT_TYPE.post(1));
+    }
+
+    private <E extends Event> List<Consumer<E>> register(EventType<E> eventType)
+    {
+        // capturing lambdas, so each listener is a distinct instance and can be removed individually
+        var listeners = IntStream.range(0, listenerCount).<Consumer<E>>mapToObj(i -> event -> sink += i).toList();
+        listeners.forEach(eventType::addListener);
+        return listeners;
+    }
+}
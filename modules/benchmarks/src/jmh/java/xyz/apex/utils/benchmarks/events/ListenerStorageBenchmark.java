@@ -0,0 +1,50 @@
+package xyz.apex.utils.benchmarks.events;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// iterating the listener array event types now use, against the linked list they used to use
+@State(Scope.Benchmark)
+public class ListenerStorageBenchmark
+{
+    @Param({ "1", "10", "100" })
+    public int listenerCount;
+
+    private int sink = 0;
+    private List<Consumer<Object>> linkedList = new LinkedList<>();
+    private Consumer<Object>[] array;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        var listeners = IntStream.range(0, listenerCount).<Consumer<Object>>mapToObj(i -> event -> sink += i).toList();
+        linkedList = new LinkedList<>(listeners);
+        array = listeners.toArray(Consumer[]::new);
+    }
+
+    @Benchmark
+    public void linkedList(Blackhole blackhole)
+    {
+        for(var listener : linkedList)
+        {
+            listener.accept(blackhole);
+        }
+    }
+
+    @Benchmark
+    public void array(Blackhole blackhole)
+    {
+        var listeners = array;
+
+        for(var i = 0; i < listeners.length; i++)
+        {
+            listeners[i].accept(blackhole);
+        }
+    }
+}
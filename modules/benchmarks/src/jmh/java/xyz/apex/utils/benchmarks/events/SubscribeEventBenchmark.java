@@ -0,0 +1,77 @@
+package xyz.apex.utils.benchmarks.events;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SubscribeEvent;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// annotated listeners against the hand written lambdas they should perform the same as
+@State(Scope.Benchmark)
+public class SubscribeEventBenchmark
+{
+    private static final int LISTENER_COUNT = 10;
+
+    @Param({ "lambda", "subscribed" })
+    public String listenerKind;
+
+    private int sink = 0;
+    private List<Consumer<BenchmarkEvent>> listeners = List.of();
+    private List<Subscriber> subscribers = List.of();
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        if(listenerKind.equals("lambda"))
+        {
+            listeners = IntStream.range(0, LISTENER_COUNT).<Consumer<BenchmarkEvent>>mapToObj(i -> event -> sink += i).toList();
+            listeners.forEach(BenchmarkEvent.EVENT_TYPE::addListener);
+        }
+        else
+        {
+            subscribers = IntStream.range(0, LISTENER_COUNT).mapToObj(Subscriber::new).toList();
+            subscribers.forEach(EventType::subscribe);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        listeners.forEach(BenchmarkEvent.EVENT_TYPE::removeListener);
+        subscribers.forEach(EventType::unsubscribe);
+    }
+
+    @Benchmark
+    public void post(Blackhole blackhole)
+    {
+        blackhole.consume(BenchmarkEvent.EVENT_TYPE.post(1));
+    }
+
+    // cost of binding an already scanned class
+    @Benchmark
+    public void subscribe()
+    {
+        var subscriber = new Subscriber(0);
+        EventType.subscribe(subscriber);
+        EventType.unsubscribe(subscriber);
+    }
+
+    public final class Subscriber
+    {
+        private final int value;
+
+        private Subscriber(int value)
+        {
+            this.value = value;
+        }
+
+        @SubscribeEvent
+        public void onEvent(BenchmarkEvent event)
+        {
+            sink += value;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package xyz.apex.utils.config;
 
 import org.jetbrains.annotations.Nullable;
+import xyz.apex.utils.config.events.ConfigLoadEvent;
+import xyz.apex.utils.config.events.ConfigSaveEvent;
+import xyz.apex.utils.events.Registration;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Base interface for all configs.
@@ -99,4 +105,47 @@ public sealed interface Config extends Iterable<Map.Entry<String, ConfigValue<?>
      * Attempts to save config to disk, using default values.
      */
     void saveDefaults();
+
+    /**
+     * Attempts to save config to disk on a background thread.
+     * <p>
+     * The config values are captured before this returns, mutations made afterwards are not part of this save.<br>
+     * Saves of the same config made within its save delay are collapsed into a single write of the latest values.
+     * <p>
+     * {@code ConfigEvent.SAVE} is posted on the background thread, once the config has been written.
+     *
+     * @return Future completing once the config has been written.
+     * @see ConfigBuilder#saveDelay(Duration)
+     */
+    CompletableFuture<Void> saveAsync();
+
+    /**
+     * Registers a listener invoked only when this config is loaded.
+     * <p>
+     * Unlike filtering {@code ConfigEvent.LOAD} on the posted config, listeners for other configs are never visited,
+     * posting the event looks up the listeners for this config by its file path.
+     *
+     * @param listener Listener to be invoked.
+     * @return Registration used to unregister the listener.
+     */
+    Registration onLoad(Consumer<ConfigLoadEvent> listener);
+
+    /**
+     * Registers a listener invoked only when this config is saved.
+     *
+     * @param listener Listener to be invoked.
+     * @return Registration used to unregister the listener.
+     * @see #onLoad(Consumer)
+     */
+    Registration onSave(Consumer<ConfigSaveEvent> listener);
+
+    /**
+     * Writes every config still waiting to be saved asynchronously, waiting for them to be written.
+     * <p>
+     * Should be invoked while shutting down, pending saves are otherwise lost.
+     */
+    static void flushAll()
+    {
+        ConfigSaveQueue.flushAll();
+    }
 }
@@ -2,6 +2,7 @@ package xyz.apex.utils.config;
 
 import xyz.apex.utils.core.ApexUtils;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
@@ -581,6 +582,34 @@ public sealed interface ConfigBuilder permits ConfigBuilderImpl
     // endregion
     // endregion
 
+    /**
+     * Keeps the previously saved config file as a {@code .bak} sibling, replaced on every save.
+     * <p>
+     * Configs which can not be read while loading are restored from this backup, rather than failing to load.
+     *
+     * @return This ConfigBuilder.
+     */
+    ConfigBuilder keepBackup();
+
+    /**
+     * Saves the config asynchronously whenever any of its values are mutated.
+     *
+     * @return This ConfigBuilder.
+     * @see Config#saveAsync()
+     */
+    ConfigBuilder autoSave();
+
+    /**
+     * Sets how long asynchronous saves wait before being written, saves made while waiting are collapsed into a single write.
+     * <p>
+     * Defaults to 500 milliseconds.
+     *
+     * @param saveDelay Time asynchronous saves wait before being written.
+     * @return This ConfigBuilder.
+     * @see Config#saveAsync()
+     */
+    ConfigBuilder saveDelay(Duration saveDelay);
+
     /**
      * @return The built Config instance.
      */
@@ -1,5 +1,6 @@
 package xyz.apex.utils.config;
 
+import java.time.Duration;
 import java.util.function.Function;
 
 final class ConfigBuilderImpl implements ConfigBuilder
@@ -20,9 +21,32 @@ final class ConfigBuilderImpl implements ConfigBuilder
         return instance;
     }
 
+    @Override
+    public ConfigBuilder keepBackup()
+    {
+        config.keepBackup = true;
+        return this;
+    }
+
+    @Override
+    public ConfigBuilder autoSave()
+    {
+        config.autoSave = true;
+        return this;
+    }
+
+    @Override
+    public ConfigBuilder saveDelay(Duration saveDelay)
+    {
+        if(saveDelay.isNegative()) throw new IllegalArgumentException("Config save delay must not be negative: %s".formatted(saveDelay));
+        config.saveDelay = saveDelay;
+        return this;
+    }
+
     @Override
     public Config build()
     {
+        ConfigRegistryImpl.register(config);
         return config;
     }
 }
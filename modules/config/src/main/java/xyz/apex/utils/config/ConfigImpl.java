@@ -1,18 +1,33 @@
 package xyz.apex.utils.config;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
 import com.google.gson.*;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
 import xyz.apex.utils.config.events.ConfigEvent;
+import xyz.apex.utils.config.events.ConfigLoadEvent;
+import xyz.apex.utils.config.events.ConfigSaveEvent;
 import xyz.apex.utils.core.ApexUtils;
+import xyz.apex.utils.events.Registration;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 final class ConfigImpl implements Config
 {
@@ -23,14 +38,35 @@ final class ConfigImpl implements Config
     }
 
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String TEMP_EXT = ".tmp";
+    private static final String BACKUP_EXT = ".bak";
+    static final Duration DEFAULT_SAVE_DELAY = Duration.ofMillis(500L);
 
     private final String filePath;
     private final Path path;
-    private final Map<String, ConfigValue<?>> configMap = Maps.newHashMap();
+    // declaration order, which is also the order values are written in
+    private final Map<String, ConfigValue<?>> configMap = Maps.newLinkedHashMap();
     private final Set<String> keys = Collections.unmodifiableSet(configMap.keySet());
     private final Collection<ConfigValue<?>> values = Collections.unmodifiableCollection(configMap.values());
     private final Set<Map.Entry<String, ConfigValue<?>>> entries = Collections.unmodifiableSet(configMap.entrySet());
     boolean canBeDirty = true;
+    // keeps the previously saved config as a sibling backup, restored from if the config can not be read
+    boolean keepBackup = false;
+    // saves every mutation asynchronously, collapsing mutations made within the save delay into a single write
+    boolean autoSave = false;
+    Duration saveDelay = DEFAULT_SAVE_DELAY;
+    private final Object writeLock = new Object();
+    // hash of the file contents last read or written by this config, used by watchers to skip unchanged files
+    private volatile long contentHash = 0L;
+    // wraps the channel configs are written through, only ever set by tests killing writes part way through
+    @Nullable UnaryOperator<WritableByteChannel> channelWrapper = null;
+    // pretty printed "key": value fragment of every written value, only dirty values are ever re-serialized
+    // only accessed while holding the write lock
+    private final Map<String, Fragment> fragments = Maps.newHashMap();
+    // keys whose fragments no longer match their values, regardless of being dirty, such as after loading
+    // only accessed while holding itself
+    private final Set<String> stale = new LinkedHashSet<>();
+    private long sequence = 0L;
 
     ConfigImpl(String filePath)
     {
@@ -41,6 +77,7 @@ final class ConfigImpl implements Config
     <T> void registerFromBuilder(ConfigValue<T> configValue)
     {
         configMap.put(configValue.key(), configValue);
+        stale.add(configValue.key());
     }
 
     @Override
@@ -107,30 +144,28 @@ final class ConfigImpl implements Config
     @Override
     public void load()
     {
-        ApexUtils.LOGGER.info("Loading config file: '{}'", filePath);
+        load(this::read);
+    }
 
-        // if file does not exist, save defaults
-        if(!Files.exists(path))
-        {
-            ApexUtils.LOGGER.info("Config file ({}) does not exist, saving defaults to disk!", filePath);
-            save(true, true);
-            // post config load event
-            ConfigEvent.LOAD.post(this);
-            return;
-        }
+    // reads the config, returning null if it does not exist
+    // invoked off thread by bulk loads, so must not touch any config values
+    @Nullable
+    JsonObject read() throws IOException
+    {
+        return Files.exists(path) ? readOrRestore() : null;
+    }
 
-        // cache any unsaved changes, these will be merged later on
-        var unsaved = Maps.<String, Object>newHashMap();
-        if(isDirty()) values.stream().filter(ConfigValue::isDirty).forEach(configValue -> unsaved.put(configValue.key(), configValue.defaultValue()));
+    // loads the config from json read by the given source, bulk loads read every config up front
+    void load(Source source)
+    {
+        ApexUtils.LOGGER.info("Loading config file: '{}'", filePath);
 
         // load config from disk
         JsonObject root;
 
-        try(var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8))
+        try
         {
-            var json = GSON.fromJson(reader, JsonElement.class);
-            if(!json.isJsonObject()) throw new JsonParseException("Config file %s was not parsed as a valid JsonObject, ensure the contents are a valid JsonObject!".formatted(filePath));
-            root = json.getAsJsonObject();
+            root = source.read();
         }
         catch(IOException e)
         {
@@ -140,6 +175,20 @@ final class ConfigImpl implements Config
             return;
         }
 
+        // if file does not exist, save defaults
+        if(root == null)
+        {
+            ApexUtils.LOGGER.info("Config file ({}) does not exist, saving defaults to disk!", filePath);
+            save(true, true);
+            // post config load event
+            ConfigEvent.LOAD.post(this);
+            return;
+        }
+
+        // cache any unsaved changes, these will be merged later on
+        var unsaved = Maps.<String, Object>newHashMap();
+        if(isDirty()) values.stream().filter(ConfigValue::isDirty).forEach(configValue -> unsaved.put(configValue.key(), configValue.defaultValue()));
+
         // load changes from json
         var parsed = Maps.<String, Object>newHashMap(); // map of none default config values deserialized from json
         var missing = Maps.<String, JsonElement>newHashMap(); // map of default values serialized to json (if missing from json) | these should be written to disk
@@ -156,6 +205,12 @@ final class ConfigImpl implements Config
         values.forEach(configValue -> updateValue(parsed, configValue));
         canBeDirty = true;
 
+        // loaded values never match previously written fragments
+        synchronized(stale)
+        {
+            stale.addAll(keys);
+        }
+
         // write missing configs to disk
         if(!missing.isEmpty())
         {
@@ -170,7 +225,10 @@ final class ConfigImpl implements Config
                 newJson.add(configValue.key(), serialized);
             });
 
-            write(path, newJson);
+            synchronized(writeLock)
+            {
+                writeFile((GSON.toJson(newJson) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+            }
         }
 
         // post config load event
@@ -189,23 +247,126 @@ final class ConfigImpl implements Config
         save(false, true);
     }
 
+    @Override
+    public CompletableFuture<Void> saveAsync()
+    {
+        if(!isDirty()) return CompletableFuture.completedFuture(null);
+        // snapshot taken here, so values mutated while waiting to be written never race the writer
+        return ConfigSaveQueue.enqueue(this, snapshot(false), saveDelay);
+    }
+
+    // invoked by config values as they are mutated
+    void changed()
+    {
+        if(autoSave && canBeDirty) saveAsync();
+    }
+
     private void save(boolean forced, boolean saveDefaults)
     {
         if(!forced && !isDirty()) return; // not dirty, no need to save to disk
         if(!forced) ApexUtils.LOGGER.info("Saving config file: '{}'", filePath);
+        write(snapshot(saveDefaults));
+    }
+
+    // serializes only dirty or stale values, clearing their dirty flags
+    // taken on the mutating thread, so values mutated while waiting to be written never race the writer
+    private Snapshot snapshot(boolean saveDefaults)
+    {
+        synchronized(stale)
+        {
+            var serialized = Maps.<String, Fragment>newLinkedHashMap();
+            var next = ++sequence;
+            var saved = Lists.<ConfigValue<?>>newArrayList();
+
+            values.forEach(configValue -> {
+                var key = configValue.key();
+                // saving defaults replaces every value
+                if(!saveDefaults && !configValue.isDirty() && !stale.contains(key)) return;
+                var json = serialize(configValue, saveDefaults);
+                serialized.put(key, new Fragment(next, json.isJsonNull() ? null : fragment(key, json)));
+                if(saveDefaults || !configValue.isDirty()) return;
+                ConfigValueImpl.setDirty(configValue, false);
+                saved.add(configValue);
+            });
+
+            // written defaults never match the values, so are re-serialized by the next save
+            if(saveDefaults) stale.addAll(keys);
+            else stale.clear();
+            return new Snapshot(serialized, saved);
+        }
+    }
 
-        // serialize configs to json
-        var root = new JsonObject();
-        values.forEach(configValue -> {
-            var serialized = serialize(configValue, saveDefaults);
-            if(!serialized.isJsonNull()) root.add(configValue.key(), serialized);
-        });
+    // also invoked by the save queue, on its writer thread
+    // returns whether the config was written, failures have already been logged
+    boolean write(Snapshot snapshot)
+    {
+        boolean written;
 
-        // write to disk
-        write(path, root);
+        // synchronous saves may race queued saves, both write through the same temp file
+        synchronized(writeLock)
+        {
+            snapshot.fragments().forEach((key, fragment) -> {
+                var current = fragments.get(key);
+                // queued snapshots may be written after newer synchronous ones, never replace newer fragments
+                if(current == null || current.sequence() < fragment.sequence()) fragments.put(key, fragment);
+            });
+
+            written = writeFile(assemble());
+        }
+
+        if(!written)
+        {
+            // nothing was saved, values are saved again by the next save
+            snapshot.saved().forEach(configValue -> ConfigValueImpl.setDirty(configValue, true));
 
-        // post config save event
+            synchronized(stale)
+            {
+                stale.addAll(snapshot.fragments().keySet());
+            }
+
+            return false;
+        }
+
+        // post config save event, only once the config has been written
         ConfigEvent.SAVE.post(this);
+        return true;
+    }
+
+    // joins the cached fragments, matching the output of the pretty printing gson
+    private byte[] assemble()
+    {
+        var builder = new StringBuilder("{");
+        var first = true;
+
+        for(var key : keys)
+        {
+            var fragment = fragments.get(key);
+            if(fragment == null || fragment.text() == null) continue;
+            builder.append(first ? "\n  " : ",\n  ").append(fragment.text());
+            first = false;
+        }
+
+        if(!first) builder.append('\n');
+        return builder.append('}').append(System.lineSeparator()).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // pretty prints a single value, indented to sit directly within the root object
+    private static String fragment(String key, JsonElement json)
+    {
+        return GSON.toJson(new JsonPrimitive(key)) + ": " + GSON.toJson(json).replace("\n", "\n  ");
+    }
+
+    @Override
+    public Registration onLoad(Consumer<ConfigLoadEvent> listener)
+    {
+        // keyed by file path rather than the config itself, configs are equal by file path but hash their mutable values
+        return ConfigEvent.LOAD.addListener(ConfigEvent.FILE_PATH, filePath, listener);
+    }
+
+    @Override
+    public Registration onSave(Consumer<ConfigSaveEvent> listener)
+    {
+        return ConfigEvent.SAVE.addListener(ConfigEvent.FILE_PATH, filePath, listener);
     }
 
     @Override
@@ -313,23 +474,151 @@ final class ConfigImpl implements Config
         return configValue.serializer().serialize(value);
     }
 
-    private static void write(Path path, JsonElement json)
+    // configs are only ever replaced by complete files, but may still be corrupted by hand or from outside of this process
+    private JsonObject readOrRestore() throws IOException
     {
         try
         {
-            if(Files.isDirectory(path)) return;
+            return read(path);
+        }
+        catch(IOException | JsonParseException e)
+        {
+            var backup = sibling(path, BACKUP_EXT);
+            if(!keepBackup || !Files.exists(backup)) throw e;
+            ApexUtils.LOGGER.warn("Config file ({}) could not be read, restoring from backup!", filePath, e);
+            var root = read(backup);
+            restore(backup, path);
+            return root;
+        }
+    }
+
+    private JsonObject read(Path path) throws IOException
+    {
+        var bytes = Files.readAllBytes(path);
+        var json = GSON.fromJson(new String(bytes, StandardCharsets.UTF_8), JsonElement.class);
+        // empty files parse to null
+        if(json == null || !json.isJsonObject()) throw new JsonParseException("Config file %s was not parsed as a valid JsonObject, ensure the contents are a valid JsonObject!".formatted(path));
+        contentHash = hash(bytes);
+        return json.getAsJsonObject();
+    }
+
+    // returns whether the config was written
+    private boolean writeFile(byte[] bytes)
+    {
+        try
+        {
+            if(Files.isDirectory(path)) return false;
             Files.createDirectories(path.getParent());
-            Files.deleteIfExists(path);
+            // written to a sibling temp file first, so a crash mid write never leaves a truncated config behind
+            var temp = sibling(path, TEMP_EXT);
 
-            try(var writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8))
+            try(var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
             {
-                GSON.toJson(json, writer);
-                writer.newLine();
+                var wrapper = channelWrapper;
+                var output = wrapper == null ? channel : wrapper.apply(channel);
+                var buffer = ByteBuffer.wrap(bytes);
+                while(buffer.hasRemaining()) output.write(buffer);
+                // synced before replacing the config, otherwise the rename may reach the disk before the contents do
+                channel.force(true);
             }
+            catch(IOException e)
+            {
+                // the config itself is untouched, only the partially written temp file is left to clean up
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+
+            if(keepBackup && Files.exists(path)) Files.copy(path, sibling(path, BACKUP_EXT), StandardCopyOption.REPLACE_EXISTING);
+            // updated before replacing, so watchers never see our own writes as changes
+            contentHash = hash(bytes);
+            replace(temp, path);
+            return true;
         }
         catch(IOException e)
         {
             ApexUtils.LOGGER.error("Error occurred while writing file: '{}'", path, e);
+            return false;
         }
     }
+
+    // whether the given file contents differ from the contents last read or written by this config
+    boolean hasChanged(byte[] bytes)
+    {
+        return hash(bytes) != contentHash;
+    }
+
+    private static long hash(byte[] bytes)
+    {
+        return Hashing.murmur3_128().hashBytes(bytes).asLong();
+    }
+
+    // restores the config from its backup, without replacing the backup with the corrupted config
+    private static void restore(Path backup, Path path) throws IOException
+    {
+        var temp = sibling(path, TEMP_EXT);
+        Files.copy(backup, temp, StandardCopyOption.REPLACE_EXISTING);
+        replace(temp, path);
+    }
+
+    private static void replace(Path source, Path target) throws IOException
+    {
+        try
+        {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch(AtomicMoveNotSupportedException e)
+        {
+            // file system can not rename atomically, still never deletes the config before its replacement exists
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        syncDirectory(target.getParent());
+    }
+
+    // renames are only durable once the directory holding them is synced, otherwise a crash may still lose the rename
+    private static void syncDirectory(Path directory)
+    {
+        try(var channel = FileChannel.open(directory, StandardOpenOption.READ))
+        {
+            channel.force(true);
+        }
+        catch(IOException e)
+        {
+            // directories can not be opened or synced on every platform, such as windows, the rename itself has still happened
+            ApexUtils.LOGGER.debug("Unable to sync config directory: '{}'", directory, e);
+        }
+    }
+
+    private static Path sibling(Path path, String extension)
+    {
+        return path.resolveSibling(path.getFileName() + extension);
+    }
+
+    // fragments serialized by a single save, saved holds values whose dirty flags were cleared
+    // both are restored if the snapshot fails to be written
+    record Snapshot(Map<String, Fragment> fragments, List<ConfigValue<?>> saved)
+    {
+        // queued saves only ever write a single snapshot, merged from every save made while waiting
+        Snapshot merge(Snapshot newer)
+        {
+            var fragments = Maps.newLinkedHashMap(this.fragments);
+            fragments.putAll(newer.fragments);
+            var saved = Lists.newArrayList(this.saved);
+            saved.addAll(newer.saved);
+            return new Snapshot(fragments, saved);
+        }
+    }
+
+    // text is null for values serialized to json null, which are never written
+    // sequence orders fragments of racing snapshots, the latest snapshot taken always wins
+    record Fragment(long sequence, @Nullable String text)
+    {
+    }
+
+    @FunctionalInterface
+    interface Source
+    {
+        @Nullable
+        JsonObject read() throws IOException;
+    }
 }
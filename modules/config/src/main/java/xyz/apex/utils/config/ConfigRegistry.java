@@ -0,0 +1,62 @@
+package xyz.apex.utils.config;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Registry of every built Config.
+ */
+public interface ConfigRegistry
+{
+    /**
+     * @return Every built Config, in the order they were first built.
+     */
+    static List<Config> configs()
+    {
+        return ConfigRegistryImpl.configs();
+    }
+
+    /**
+     * Looks up the Config built for the given file path.
+     *
+     * @param filePath Relative file path of the Config, with or without the {@link Config#FILE_EXT file extension}.
+     * @return Config built for the given file path or null if none has been built.
+     */
+    @Nullable
+    static Config lookup(String filePath)
+    {
+        return ConfigRegistryImpl.lookup(filePath);
+    }
+
+    /**
+     * Loads every built Config, as if by invoking {@link Config#load()} on each.
+     * <p>
+     * Config files are read &#38; parsed in parallel, while the parsed values are applied
+     * &#38; {@code ConfigEvent.LOAD} is posted on the calling thread, in the order Configs were first built.
+     *
+     * @return Report of how long loading took.
+     */
+    static LoadReport loadAll()
+    {
+        return ConfigRegistryImpl.loadAll();
+    }
+
+    /**
+     * Report of loading every built Config.
+     *
+     * @param configs Number of Configs loaded.
+     * @param readNanos Time taken to read &#38; parse every config file.
+     * @param applyNanos Time taken to apply the parsed values &#38; post load events.
+     */
+    record LoadReport(int configs, long readNanos, long applyNanos)
+    {
+        /**
+         * @return Total time taken to load every Config.
+         */
+        public long totalNanos()
+        {
+            return readNanos + applyNanos;
+        }
+    }
+}
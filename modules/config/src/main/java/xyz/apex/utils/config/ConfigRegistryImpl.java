@@ -0,0 +1,109 @@
+package xyz.apex.utils.config;
+
+import com.google.common.collect.Maps;
+import com.google.gson.JsonObject;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import xyz.apex.utils.core.ApexUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+final class ConfigRegistryImpl
+{
+    // keyed by file path, rebuilding a config replaces the previous config while keeping its position
+    // only accessed while holding itself
+    private static final Map<String, ConfigImpl> CONFIGS = Maps.newLinkedHashMap();
+
+    private ConfigRegistryImpl()
+    {
+    }
+
+    static void register(ConfigImpl config)
+    {
+        synchronized(CONFIGS)
+        {
+            CONFIGS.put(config.filePath(), config);
+        }
+    }
+
+    static List<Config> configs()
+    {
+        synchronized(CONFIGS)
+        {
+            return List.copyOf(CONFIGS.values());
+        }
+    }
+
+    @Nullable
+    static Config lookup(String filePath)
+    {
+        synchronized(CONFIGS)
+        {
+            return CONFIGS.get(StringUtils.appendIfMissingIgnoreCase(filePath, Config.FILE_EXT));
+        }
+    }
+
+    static ConfigRegistry.LoadReport loadAll()
+    {
+        List<ConfigImpl> configs;
+
+        synchronized(CONFIGS)
+        {
+            configs = List.copyOf(CONFIGS.values());
+        }
+
+        var start = System.nanoTime();
+        // reading & parsing never touches config values, so is safe to run in parallel
+        var reads = configs.stream().map(config -> CompletableFuture.supplyAsync(() -> read(config), ForkJoinPool.commonPool())).toList();
+        // waits for every read, failures are rethrown as their config is applied
+        CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).handle((result, error) -> null).join();
+        var read = System.nanoTime();
+
+        // applied in build order, so load events are posted deterministically
+        for(var i = 0; i < configs.size(); i++)
+        {
+            var future = reads.get(i);
+            configs.get(i).load(() -> join(future));
+        }
+
+        var report = new ConfigRegistry.LoadReport(configs.size(), read - start, System.nanoTime() - read);
+        ApexUtils.LOGGER.info("Loaded {} config files in {}ms (reading {}ms, applying {}ms)", report.configs(), TimeUnit.NANOSECONDS.toMillis(report.totalNanos()), TimeUnit.NANOSECONDS.toMillis(report.readNanos()), TimeUnit.NANOSECONDS.toMillis(report.applyNanos()));
+        return report;
+    }
+
+    @Nullable
+    private static JsonObject read(ConfigImpl config)
+    {
+        try
+        {
+            return config.read();
+        }
+        catch(IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nullable
+    private static JsonObject join(CompletableFuture<JsonObject> read) throws IOException
+    {
+        try
+        {
+            return read.join();
+        }
+        catch(CompletionException e)
+        {
+            // rethrown as they would have been by reading on the calling thread
+            if(e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+            if(e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package xyz.apex.utils.config;
+
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import xyz.apex.utils.core.ApexUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// writes asynchronously saved configs on a single background thread
+interface ConfigSaveQueue
+{
+    // pending snapshot per config, keyed by identity as configs hash their mutable values
+    // only accessed while holding itself
+    Map<ConfigImpl, PendingSave> PENDING = Maps.newIdentityHashMap();
+    // tracked so flushes made from the writer itself, such as from save listeners, never wait on themselves
+    AtomicReference<Thread> WRITER_THREAD = new AtomicReference<>();
+    // single writer, so configs are never written concurrently to one another by the queue
+    ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new ThreadFactoryBuilder().setNameFormat("ApexUtils-ConfigWriter-%d").setDaemon(true).build().newThread(runnable);
+        WRITER_THREAD.set(thread);
+        return thread;
+    });
+
+    static CompletableFuture<Void> enqueue(ConfigImpl config, ConfigImpl.Snapshot snapshot, Duration delay)
+    {
+        synchronized(PENDING)
+        {
+            var pending = PENDING.get(config);
+
+            // already waiting to be written, snapshots only hold changed values so are merged rather than replaced
+            if(pending != null)
+            {
+                pending.snapshot = pending.snapshot.merge(snapshot);
+                return pending.future;
+            }
+
+            pending = new PendingSave(snapshot);
+            PENDING.put(config, pending);
+            WRITER.schedule(() -> write(config), delay.toNanos(), TimeUnit.NANOSECONDS);
+            return pending.future;
+        }
+    }
+
+    static void flushAll()
+    {
+        if(Thread.currentThread() == WRITER_THREAD.get())
+        {
+            writeAll();
+            return;
+        }
+
+        // flushed on the writer, so flushed configs are never written concurrently with scheduled writes
+        var flush = WRITER.submit(ConfigSaveQueue::writeAll);
+
+        try
+        {
+            flush.get();
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch(ExecutionException e)
+        {
+            ApexUtils.LOGGER.error("Error occurred while flushing pending config saves", e.getCause());
+        }
+    }
+
+    private static void writeAll()
+    {
+        List<ConfigImpl> configs;
+
+        synchronized(PENDING)
+        {
+            configs = List.copyOf(PENDING.keySet());
+        }
+
+        configs.forEach(ConfigSaveQueue::write);
+    }
+
+    private static void write(ConfigImpl config)
+    {
+        PendingSave pending;
+
+        synchronized(PENDING)
+        {
+            pending = PENDING.remove(config);
+        }
+
+        // already written by a flush
+        if(pending == null) return;
+
+        try
+        {
+            // failed writes are only logged by the config, futures must still report them
+            if(config.write(pending.snapshot)) pending.future.complete(null);
+            else pending.future.completeExceptionally(new IOException("Failed to write config file: '%s'".formatted(config.filePath())));
+        }
+        catch(Throwable e)
+        {
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    final class PendingSave
+    {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private ConfigImpl.Snapshot snapshot;
+
+        private PendingSave(ConfigImpl.Snapshot snapshot)
+        {
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -50,7 +50,9 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
     {
         if(this.value == value) return;
         this.value = value;
-        if(config.canBeDirty) isDirty = true;
+        if(!config.canBeDirty) return;
+        isDirty = true;
+        config.changed();
     }
 
     @Override
@@ -103,6 +105,13 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
         return "ConfigValue[%s=%s]".formatted(key, value);
     }
 
+    // invoked by configs once values have been snapshot for saving, or failed to be written
+    static void setDirty(ConfigValue<?> configValue, boolean dirty)
+    {
+        if(configValue instanceof ListImpl<?> list) list.isDirty = dirty;
+        else if(configValue instanceof ConfigValueImpl<?> impl) impl.isDirty = dirty;
+    }
+
     static final class BooleanImpl extends ConfigValueImpl<java.lang.Boolean> implements Boolean
     {
         BooleanImpl(Config config, String key, boolean initialValue, boolean defaultValue)
@@ -227,6 +236,13 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
             this.serializer = serializer;
         }
 
+        // invoked after every mutation, so auto saves snapshot the mutated values
+        private void markDirty()
+        {
+            isDirty = true;
+            config.changed();
+        }
+
         // region: ConfigValue
         @Override
         public Config config()
@@ -254,7 +270,7 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
             if(this.values.equals(valid)) return;
             this.values.clear();
             this.values.addAll(valid);
-            isDirty = true;
+            markDirty();
         }
 
         @Override
@@ -344,7 +360,7 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
         {
             if(isValid(t) && values.add(t))
             {
-                isDirty = true;
+                markDirty();
                 return true;
             }
 
@@ -356,7 +372,7 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
         {
             if(values.remove(o))
             {
-                isDirty = true;
+                markDirty();
                 return true;
             }
 
@@ -380,7 +396,7 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
 
             if(values.addAll(valid))
             {
-                isDirty = true;
+                markDirty();
                 return true;
             }
 
@@ -396,7 +412,7 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
 
             if(values.addAll(index, valid))
             {
-                isDirty = true;
+                markDirty();
                 return true;
             }
 
@@ -408,7 +424,7 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
         {
             if(values.removeAll(c))
             {
-                isDirty = true;
+                markDirty();
                 return true;
             }
 
@@ -425,7 +441,7 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
 
             if(values.retainAll(valid))
             {
-                isDirty = true;
+                markDirty();
                 return true;
             }
 
@@ -436,7 +452,7 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
         public void clear()
         {
             values.clear();
-            isDirty = true;
+            markDirty();
         }
 
         @Override
@@ -449,23 +465,25 @@ non-sealed class ConfigValueImpl<T> implements ConfigValue<T>
         public T set(int index, T element)
         {
             if(!isValid(element)) throw new IllegalArgumentException("Can not use #set(int, T) to set invalid elements");
-            isDirty = true;
-            return values.set(index, element);
+            var previous = values.set(index, element);
+            markDirty();
+            return previous;
         }
 
         @Override
         public void add(int index, T element)
         {
             if(!isValid(element)) return;
-            isDirty = true;
             values.add(index, element);
+            markDirty();
         }
 
         @Override
         public T remove(int index)
         {
-            isDirty = true;
-            return values.remove(index);
+            var removed = values.remove(index);
+            markDirty();
+            return removed;
         }
 
         @Override
@@ -0,0 +1,64 @@
+package xyz.apex.utils.config;
+
+import xyz.apex.utils.core.ApexUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * ConfigWatcher - Used to reload Configs as their files are edited from outside of this process.
+ * <p>
+ * Watches every directory under {@link ApexUtils#configsDir()}, reloading only the Config whose file was modified.<br>
+ * Bursts of modifications to the same file are debounced into a single reload,
+ * files whose contents match those last read or written by their Config are never reloaded, including files saved by the Config itself.
+ * <p>
+ * Only Configs which have been built are reloaded, see {@link ConfigRegistry}.
+ */
+public sealed interface ConfigWatcher extends AutoCloseable permits ConfigWatcherImpl
+{
+    /**
+     * @return Number of Configs reloaded so far.
+     */
+    long reloads();
+
+    /**
+     * @return Number of modified files skipped so far, as their contents had not changed.
+     */
+    long skipped();
+
+    /**
+     * Stops watching for modifications, pending reloads are dropped.
+     */
+    @Override
+    void close();
+
+    /**
+     * Starts a new ConfigWatcher, reloading Configs 500 milliseconds after their files were last modified.
+     *
+     * @param executor Executor Configs are reloaded on, see {@link #start(Duration, Executor)}.
+     * @return Newly started ConfigWatcher.
+     * @throws IOException If the configs directory could not be watched.
+     */
+    static ConfigWatcher start(Executor executor) throws IOException
+    {
+        return start(ConfigWatcherImpl.DEFAULT_DEBOUNCE, executor);
+    }
+
+    /**
+     * Starts a new ConfigWatcher.
+     * <p>
+     * Configs are not thread safe, reloading mutates their values &#38; posts {@link xyz.apex.utils.config.events.ConfigEvent#LOAD}.<br>
+     * The executor should hand reloads over to the thread owning the Configs,
+     * {@code Runnable::run} reloads on the watcher's own thread &#38; is only safe while no other thread reads or saves the Configs.
+     *
+     * @param debounce Time to wait after a file was last modified before reloading its Config.
+     * @param executor Executor Configs are reloaded on.
+     * @return Newly started ConfigWatcher.
+     * @throws IOException If the configs directory could not be watched.
+     */
+    static ConfigWatcher start(Duration debounce, Executor executor) throws IOException
+    {
+        return new ConfigWatcherImpl(ApexUtils.INSTANCE.configsDir(), debounce, executor);
+    }
+}
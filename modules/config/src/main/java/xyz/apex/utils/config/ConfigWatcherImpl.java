@@ -0,0 +1,190 @@
+package xyz.apex.utils.config;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import xyz.apex.utils.core.ApexUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+final class ConfigWatcherImpl implements ConfigWatcher
+{
+    static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(500L);
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private final Path root;
+    private final Duration debounce;
+    private final Executor executor;
+    private final WatchService watchService;
+    // single thread, debounced reloads never run concurrently to one another
+    private final ScheduledExecutorService scheduler;
+    // scheduled reload per config file path, replaced as further modifications come in
+    private final Map<String, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private volatile boolean closed = false;
+
+    ConfigWatcherImpl(Path root, Duration debounce, Executor executor) throws IOException
+    {
+        if(debounce.isNegative()) throw new IllegalArgumentException("ConfigWatcher debounce must not be negative: %s".formatted(debounce));
+        this.root = root;
+        this.debounce = debounce;
+        this.executor = executor;
+        Files.createDirectories(root);
+        watchService = root.getFileSystem().newWatchService();
+
+        try
+        {
+            watchTree(root);
+        }
+        catch(IOException e)
+        {
+            watchService.close();
+            throw e;
+        }
+
+        var id = THREAD_ID.getAndIncrement();
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("ApexUtils-ConfigReloader-%d".formatted(id)).setDaemon(true).build());
+        var thread = new Thread(this::run, "ApexUtils-ConfigWatcher-%d".formatted(id));
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public long reloads()
+    {
+        return reloads.sum();
+    }
+
+    @Override
+    public long skipped()
+    {
+        return skipped.sum();
+    }
+
+    @Override
+    public void close()
+    {
+        if(closed) return;
+        closed = true;
+        scheduler.shutdownNow();
+        pending.clear();
+
+        try
+        {
+            // wakes the watcher thread, failing its pending take
+            watchService.close();
+        }
+        catch(IOException e)
+        {
+            ApexUtils.LOGGER.error("Error occurred while closing ConfigWatcher", e);
+        }
+    }
+
+    private void run()
+    {
+        while(!closed)
+        {
+            try
+            {
+                var key = watchService.take();
+                var directory = (Path) key.watchable();
+
+                for(var event : key.pollEvents())
+                {
+                    // events were dropped, any config could have been modified
+                    if(event.kind() == StandardWatchEventKinds.OVERFLOW)
+                    {
+                        ConfigRegistry.configs().forEach(config -> schedule(config.filePath()));
+                        continue;
+                    }
+
+                    var path = directory.resolve((Path) event.context());
+
+                    if(event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) watchTree(path);
+                    else schedule(root.relativize(path).toString().replace(File.separatorChar, '/'));
+                }
+
+                key.reset();
+            }
+            catch(InterruptedException | ClosedWatchServiceException e)
+            {
+                return;
+            }
+            catch(Throwable e)
+            {
+                ApexUtils.LOGGER.error("Error occurred while watching config files", e);
+            }
+        }
+    }
+
+    private void watchTree(Path directory) throws IOException
+    {
+        try(Stream<Path> directories = Files.walk(directory))
+        {
+            for(var path : (Iterable<Path>) directories.filter(Files::isDirectory)::iterator)
+            {
+                path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+    }
+
+    private void schedule(String filePath)
+    {
+        // temp & backup files written alongside configs are never configs themselves
+        if(closed || !filePath.endsWith(Config.FILE_EXT)) return;
+
+        pending.compute(filePath, (key, previous) -> {
+            if(previous != null) previous.cancel(false);
+            return scheduler.schedule(() -> reload(filePath), debounce.toNanos(), TimeUnit.NANOSECONDS);
+        });
+    }
+
+    private void reload(String filePath)
+    {
+        pending.remove(filePath);
+        if(!(ConfigRegistry.lookup(filePath) instanceof ConfigImpl config)) return;
+        byte[] bytes;
+
+        try
+        {
+            bytes = Files.readAllBytes(config.path());
+        }
+        catch(NoSuchFileException e)
+        {
+            // deleted since being modified, nothing to reload
+            return;
+        }
+        catch(IOException e)
+        {
+            ApexUtils.LOGGER.error("Error occurred while reading modified config file: '{}'", filePath, e);
+            return;
+        }
+
+        if(!config.hasChanged(bytes))
+        {
+            skipped.increment();
+            return;
+        }
+
+        ApexUtils.LOGGER.info("Config file ({}) was modified, reloading!", filePath);
+        reloads.increment();
+        executor.execute(config::load);
+    }
+}
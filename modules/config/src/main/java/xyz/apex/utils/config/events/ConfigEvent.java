@@ -2,12 +2,17 @@ package xyz.apex.utils.config.events;
 
 import xyz.apex.utils.config.Config;
 import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventKey;
 import xyz.apex.utils.events.EventType;
 
 public sealed interface ConfigEvent extends Event permits BaseConfigEvent
 {
+    // listened to by every config event, can not be posted
+    EventType<ConfigEvent> ANY = EventType.register(ConfigEvent.class);
     EventType<ConfigLoadEvent> LOAD = EventType.register(ConfigLoadEvent.class, Config.class);
     EventType<ConfigSaveEvent> SAVE = EventType.register(ConfigSaveEvent.class, Config.class);
+    // indexes keyed listeners by the file path of the config, reaching only the listeners of the posted config
+    EventKey<ConfigEvent, String> FILE_PATH = EventKey.of(event -> event.config().filePath());
 
     Config config();
 }
@@ -0,0 +1,62 @@
+package xyz.apex.utils.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+public interface ConfigHack
+{
+    // simulates the process being killed once the given number of bytes have been written, for every following write of the config
+    static void killWritesAfter(Config config, int bytes)
+    {
+        ((ConfigImpl) config).channelWrapper = channel -> new KilledChannel(channel, bytes);
+    }
+
+    static void restoreWrites(Config config)
+    {
+        ((ConfigImpl) config).channelWrapper = null;
+    }
+
+    final class KilledChannel implements WritableByteChannel
+    {
+        private final WritableByteChannel channel;
+        private int remaining;
+
+        private KilledChannel(WritableByteChannel channel, int bytes)
+        {
+            this.channel = channel;
+            remaining = bytes;
+        }
+
+        @Override
+        public int write(ByteBuffer buffer) throws IOException
+        {
+            if(remaining == 0) throw new IOException("Killed mid write");
+            var limit = buffer.limit();
+            buffer.limit(Math.min(limit, buffer.position() + remaining));
+
+            try
+            {
+                var written = channel.write(buffer);
+                remaining -= written;
+                return written;
+            }
+            finally
+            {
+                buffer.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen()
+        {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            channel.close();
+        }
+    }
+}
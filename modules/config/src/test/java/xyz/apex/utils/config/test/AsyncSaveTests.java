@@ -0,0 +1,103 @@
+package xyz.apex.utils.config.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.config.Config;
+import xyz.apex.utils.config.ConfigBuilder;
+import xyz.apex.utils.config.ConfigHack;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class AsyncSaveTests
+{
+    @Test
+    void saveAsync() throws Exception
+    {
+        var builder = ConfigBuilder.builder("async_test").saveDelay(Duration.ofMillis(100L));
+        var value = builder.defineInteger("value", 0);
+        var config = builder.build();
+        var saves = new AtomicInteger();
+        var registration = config.onSave(event -> saves.incrementAndGet());
+
+        try
+        {
+            value.set(1);
+            var first = config.saveAsync();
+            value.set(2);
+            var second = config.saveAsync();
+            // snapshot was taken by the save, later mutations are not written
+            value.set(3);
+
+            second.get(5L, TimeUnit.SECONDS);
+            Assertions.assertTrue(first.isDone());
+            Assertions.assertEquals(1, saves.get(), "Saves within the save delay were not collapsed");
+            Assertions.assertTrue(read(config).contains("2"));
+            Assertions.assertFalse(read(config).contains("3"));
+        }
+        finally
+        {
+            registration.close();
+            Files.deleteIfExists(config.path());
+        }
+    }
+
+    @Test
+    void autoSave() throws Exception
+    {
+        // long enough to never be written before flushing
+        var builder = ConfigBuilder.builder("auto_save_test").autoSave().saveDelay(Duration.ofMinutes(1L));
+        var value = builder.defineString("value", "default");
+        var config = builder.build();
+        var saves = new AtomicInteger();
+        var registration = config.onSave(event -> saves.incrementAndGet());
+
+        try
+        {
+            for(var i = 0; i < 100; i++) value.set("value" + i);
+            Assertions.assertFalse(Files.exists(config.path()));
+
+            Config.flushAll();
+            Assertions.assertEquals(1, saves.get());
+            Assertions.assertTrue(read(config).contains("value99"));
+        }
+        finally
+        {
+            registration.close();
+            Files.deleteIfExists(config.path());
+        }
+    }
+
+    @Test
+    void failedSaveAsync() throws IOException
+    {
+        var builder = ConfigBuilder.builder("async_failed_test").saveDelay(Duration.ofMillis(10L));
+        var value = builder.defineString("value", "default");
+        var config = builder.build();
+        ConfigHack.killWritesAfter(config, 0);
+
+        try
+        {
+            value.set("unsaved");
+            var future = config.saveAsync();
+            Assertions.assertThrows(CompletionException.class, future::join, "Failed save completed normally");
+            Assertions.assertTrue(value.isDirty(), "Failed save marked the value as saved");
+            Assertions.assertFalse(Files.exists(config.path()));
+        }
+        finally
+        {
+            ConfigHack.restoreWrites(config);
+            Files.deleteIfExists(config.path());
+        }
+    }
+
+    private static String read(Config config) throws IOException
+    {
+        return Files.readString(config.path(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,101 @@
+package xyz.apex.utils.config.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.config.Config;
+import xyz.apex.utils.config.ConfigBuilder;
+import xyz.apex.utils.config.ConfigHack;
+import xyz.apex.utils.config.ConfigValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+// fault injection, simulates processes being killed at random byte offsets while writing configs
+public final class AtomicWriteTests
+{
+    private static final int ITERATIONS = 50;
+
+    @Test
+    void killedMidWrite() throws IOException
+    {
+        var builder = ConfigBuilder.builder("atomic_test");
+        var value = builder.defineString("value", "default");
+        var config = builder.build();
+        var random = new Random(0L);
+
+        try
+        {
+            for(var i = 0; i < ITERATIONS; i++)
+            {
+                save(config, value, "saved" + i);
+                var saved = Files.readAllBytes(config.path());
+
+                // killed at a random byte offset of the next save, before it ever replaces the config
+                ConfigHack.killWritesAfter(config, random.nextInt(saved.length));
+                save(config, value, "unsaved" + i);
+                ConfigHack.restoreWrites(config);
+
+                Assertions.assertArrayEquals(saved, Files.readAllBytes(config.path()), "Killed write modified the saved config");
+                Assertions.assertTrue(value.isDirty(), "Killed write marked the value as saved");
+
+                config.load();
+                Assertions.assertEquals("saved" + i, value.get(), "Killed write replaced the saved config");
+            }
+        }
+        finally
+        {
+            delete(config.path());
+        }
+    }
+
+    @Test
+    void restoresBackup() throws IOException
+    {
+        var builder = ConfigBuilder.builder("atomic_backup_test").keepBackup();
+        var value = builder.defineString("value", "default");
+        var config = builder.build();
+        var random = new Random(0L);
+
+        try
+        {
+            for(var i = 0; i < ITERATIONS; i++)
+            {
+                save(config, value, "previous" + i);
+                save(config, value, "current" + i);
+
+                // corrupted outside of this process, truncated anywhere before the closing brace
+                var saved = Files.readAllBytes(config.path());
+                Files.write(config.path(), Arrays.copyOf(saved, random.nextInt(saved.length - 2)));
+
+                config.load();
+                Assertions.assertEquals("previous" + i, value.get(), "Corrupted config was not restored from its backup");
+                Assertions.assertArrayEquals(Files.readAllBytes(sibling(config.path(), ".bak")), Files.readAllBytes(config.path()));
+            }
+        }
+        finally
+        {
+            delete(config.path());
+        }
+    }
+
+    private static void save(Config config, ConfigValue<String> value, String newValue)
+    {
+        value.set(newValue);
+        config.save();
+    }
+
+    private static Path sibling(Path path, String extension)
+    {
+        return path.resolveSibling(path.getFileName() + extension);
+    }
+
+    private static void delete(Path path) throws IOException
+    {
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(sibling(path, ".tmp"));
+        Files.deleteIfExists(sibling(path, ".bak"));
+    }
+}
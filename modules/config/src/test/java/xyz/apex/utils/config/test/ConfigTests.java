@@ -3,8 +3,11 @@ package xyz.apex.utils.config.test;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import xyz.apex.utils.config.ConfigBuilder;
+import xyz.apex.utils.config.events.ConfigEvent;
+import xyz.apex.utils.events.Registration;
 
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
@@ -59,4 +62,25 @@ public final class ConfigTests
         Assertions.assertNotEquals(cfgSomeList.get(), List.of("entry_b", "entry_a"));
         Assertions.assertFalse(cfgInvalid.add("some_value"));
     }
+
+    @Test
+    void configListeners()
+    {
+        var config = ConfigBuilder.builder("test").build();
+        var other = ConfigBuilder.builder("list_test").build();
+        var invoked = new ArrayList<String>();
+
+        var registrations = List.of(
+                config.onLoad(event -> invoked.add("load")),
+                other.onLoad(event -> invoked.add("other")),
+                ConfigEvent.LOAD.addListener(event -> invoked.add("global:" + event.config().filePath()))
+        );
+
+        config.load();
+        registrations.forEach(Registration::close);
+
+        Assertions.assertTrue(invoked.contains("load"));
+        Assertions.assertTrue(invoked.contains("global:test.json"));
+        Assertions.assertFalse(invoked.contains("other"), "Listener of another config was invoked");
+    }
 }
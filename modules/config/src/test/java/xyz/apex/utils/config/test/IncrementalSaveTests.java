@@ -0,0 +1,84 @@
+package xyz.apex.utils.config.test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.config.ConfigBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+public final class IncrementalSaveTests
+{
+    @Test
+    void matchesFullSave() throws IOException
+    {
+        var builder = ConfigBuilder.builder("incremental_test");
+        var string = builder.defineString("string", "default");
+        var integer = builder.defineInteger("integer", 0);
+        var list = builder.defineStringList("list", List.of("a", "b"), List.of());
+        var config = builder.build();
+
+        try
+        {
+            string.set("first");
+            config.save();
+            Assertions.assertFalse(string.isDirty(), "Saved value was left dirty");
+            Assertions.assertFalse(config.isDirty(), "Saved config was left dirty");
+
+            // only these values are re-serialized, every other value is patched in from the previous save
+            integer.set(10);
+            list.add("c");
+            Assertions.assertTrue(config.isDirty());
+            config.save();
+            Assertions.assertFalse(config.isDirty(), "Saved config was left dirty");
+
+            // expected bytes are built independently of the config, the same as full saves used to write them
+            var json = new JsonObject();
+            json.add("string", new JsonPrimitive("first"));
+            json.add("integer", new JsonPrimitive(10));
+            var array = new JsonArray();
+            List.of("a", "b", "c").forEach(array::add);
+            json.add("list", array);
+            var expected = (new GsonBuilder().setPrettyPrinting().create().toJson(json) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+            Assertions.assertArrayEquals(expected, Files.readAllBytes(config.path()), "Incrementally saved config differs from fully pretty printed config");
+
+            // patched fragments are still read back the same
+            string.set("unsaved");
+            config.load();
+            Assertions.assertEquals("first", string.get());
+            Assertions.assertEquals(10, integer.get());
+            Assertions.assertEquals(List.of("a", "b", "c"), List.copyOf(list.get()));
+        }
+        finally
+        {
+            Files.deleteIfExists(config.path());
+        }
+    }
+
+    @Test
+    void failedSaveStaysDirty() throws IOException
+    {
+        var builder = ConfigBuilder.builder("incremental_failed_test");
+        var value = builder.defineString("value", "default");
+        var config = builder.build();
+        // configs are never written over directories
+        Files.createDirectories(config.path());
+
+        try
+        {
+            value.set("unsaved");
+            config.save();
+            Assertions.assertTrue(value.isDirty(), "Value was marked clean without being written");
+        }
+        finally
+        {
+            Files.deleteIfExists(config.path());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package xyz.apex.utils.config.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.config.Config;
+import xyz.apex.utils.config.ConfigBuilder;
+import xyz.apex.utils.config.ConfigRegistry;
+import xyz.apex.utils.config.ConfigValue;
+import xyz.apex.utils.config.events.ConfigEvent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RegistryTests
+{
+    @Test
+    void loadAll() throws IOException
+    {
+        var configs = new ArrayList<Config>();
+        var values = new ArrayList<ConfigValue<Integer>>();
+
+        for(var i = 0; i < 32; i++)
+        {
+            var builder = ConfigBuilder.builder("bulk/bulk_" + i);
+            values.add(builder.defineInteger("value", 0));
+            var config = builder.build();
+            Files.createDirectories(config.path().getParent());
+            Files.writeString(config.path(), "{ \"value\": %d }".formatted(i));
+            configs.add(config);
+        }
+
+        // configs built by other tests may not exist, these are cleaned up once loaded
+        var created = ConfigRegistry.configs().stream().filter(config -> !Files.exists(config.path())).toList();
+        var loaded = new ArrayList<String>();
+        var registration = ConfigEvent.LOAD.addListener(event -> loaded.add(event.config().filePath()));
+
+        try
+        {
+            var report = ConfigRegistry.loadAll();
+            Assertions.assertTrue(report.configs() >= configs.size());
+            Assertions.assertSame(configs.get(0), ConfigRegistry.lookup("bulk/bulk_0"));
+
+            for(var i = 0; i < configs.size(); i++)
+            {
+                Assertions.assertEquals(i, values.get(i).get());
+            }
+
+            // loaded in the order configs were built
+            var expected = ConfigRegistry.configs().stream().map(Config::filePath).toList();
+            Assertions.assertEquals(expected, loaded);
+        }
+        finally
+        {
+            registration.close();
+            for(var config : configs) Files.deleteIfExists(config.path());
+            for(var config : created) Files.deleteIfExists(config.path());
+            Files.deleteIfExists(configs.get(0).path().getParent());
+        }
+    }
+}
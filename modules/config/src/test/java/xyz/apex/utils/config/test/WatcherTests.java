@@ -0,0 +1,51 @@
+package xyz.apex.utils.config.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.config.ConfigBuilder;
+import xyz.apex.utils.config.ConfigWatcher;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public final class WatcherTests
+{
+    @Test
+    void reloads() throws Exception
+    {
+        var builder = ConfigBuilder.builder("watch_test");
+        var value = builder.defineInteger("value", 0);
+        var config = builder.build();
+        config.load();
+
+        try(var watcher = ConfigWatcher.start(Duration.ofMillis(50L), Runnable::run))
+        {
+            // saved by the config itself, never reloaded
+            value.set(5);
+            config.save();
+            Thread.sleep(500L);
+            Assertions.assertEquals(0L, watcher.reloads());
+
+            // edited from outside of this process
+            var reloaded = new CompletableFuture<Integer>();
+            var registration = config.onLoad(event -> reloaded.complete(value.get()));
+            Files.writeString(config.path(), "{ \"value\": 7 }");
+            Assertions.assertEquals(7, reloaded.get(30L, TimeUnit.SECONDS));
+            registration.close();
+            Assertions.assertEquals(1L, watcher.reloads());
+
+            // rewritten with identical contents
+            var skipped = watcher.skipped();
+            Files.writeString(config.path(), "{ \"value\": 7 }");
+            Thread.sleep(500L);
+            Assertions.assertEquals(1L, watcher.reloads());
+            Assertions.assertTrue(watcher.skipped() > skipped);
+        }
+        finally
+        {
+            Files.deleteIfExists(config.path());
+        }
+    }
+}
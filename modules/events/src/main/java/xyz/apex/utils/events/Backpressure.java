@@ -0,0 +1,20 @@
+package xyz.apex.utils.events;
+
+/**
+ * Strategies a {@link QueuedEventBus} may use when events are enqueued while it is full.
+ */
+public enum Backpressure
+{
+    /**
+     * Blocks the enqueuing thread until space frees up in the queue.
+     */
+    BLOCK,
+    /**
+     * Discards the oldest queued event, making room for the newly enqueued event.
+     */
+    DROP_OLDEST,
+    /**
+     * Discards the newly enqueued event, leaving the queue untouched.
+     */
+    REJECT
+}
@@ -0,0 +1,26 @@
+package xyz.apex.utils.events;
+
+/**
+ * Strategies an {@link EventType} may use when one of its listeners throws while being invoked.
+ *
+ * @see EventTypeBuilder#errorPolicy(ErrorPolicy)
+ */
+public enum ErrorPolicy
+{
+    /**
+     * Logs the error &#38; rethrows it to the poster, skipping every remaining listener.
+     */
+    PROPAGATE,
+    /**
+     * Logs the error &#38; continues invoking the remaining listeners.
+     * <p>
+     * Failures are reported through {@link EventResult#failures()}.
+     */
+    ISOLATE,
+    /**
+     * Same as {@link #ISOLATE}, additionally removing listeners once they have failed too many times.
+     *
+     * @see EventTypeBuilder#disableAfter(int)
+     */
+    DISABLE
+}
@@ -0,0 +1,45 @@
+package xyz.apex.utils.events;
+
+import java.util.BitSet;
+
+/**
+ * EventBatch - Used to post many Events of the same EventType in a single pass.
+ * <p>
+ * Rather than invoking every listener for each Event in turn, each listener is invoked for every Event in the batch,
+ * before moving on to the next listener.
+ * <p>
+ * EventBatches are not thread safe &#38; should only be used by the thread which created them.
+ *
+ * @param <E> Type of Event this EventBatch posts.
+ */
+public sealed interface EventBatch<E extends Event> permits EventBatchImpl
+{
+    /**
+     * Adds a new Event to this batch.
+     * <p>
+     * The Event instance is constructed immediately, but not posted until {@link #post()} is invoked.
+     *
+     * @param eventArgs Args passed along to EventType to construct a new event instance.
+     * @return This EventBatch.
+     */
+    EventBatch<E> add(Object... eventArgs);
+
+    /**
+     * @return Number of Events currently in this batch.
+     */
+    int size();
+
+    /**
+     * Posts every Event in this batch to all registered listeners, clearing the batch afterwards.
+     * <p>
+     * Events are posted in the order they were added, async listeners are invoked as with {@link EventType#post(Object...)}.
+     *
+     * @return Indices of all cancelled Events, in the order they were added.
+     */
+    BitSet post();
+
+    /**
+     * @return EventType this EventBatch posts to.
+     */
+    EventType<E> eventType();
+}
@@ -0,0 +1,52 @@
+package xyz.apex.utils.events;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+final class EventBatchImpl<E extends Event> implements EventBatch<E>
+{
+    private final EventTypeImpl<E> eventType;
+    private Event[] events = new Event[16];
+    private int size = 0;
+
+    EventBatchImpl(EventTypeImpl<E> eventType)
+    {
+        this.eventType = eventType;
+    }
+
+    @Override
+    public EventBatch<E> add(Object... eventArgs)
+    {
+        // always fresh instances, every event in the batch is alive at the same time
+        var event = eventType.newInstance(eventArgs);
+        if(size == events.length) events = Arrays.copyOf(events, size * 2);
+        events[size++] = event;
+        return this;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public BitSet post()
+    {
+        try
+        {
+            return eventType.dispatchAll(events, size);
+        }
+        finally
+        {
+            Arrays.fill(events, 0, size, null);
+            size = 0;
+        }
+    }
+
+    @Override
+    public EventType<E> eventType()
+    {
+        return eventType;
+    }
+}
@@ -0,0 +1,79 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * EventCoalescer - Used to merge bursts of Events, posting only the latest Event per key.
+ * <p>
+ * Events are constructed as they are posted to the coalescer, but held back until it is flushed.<br>
+ * Posting an Event whose key matches a pending Event replaces that Event, keeping its position in the posting order.
+ * <p>
+ * Coalescers constructed with a window flush themselves once the window has passed since the first pending Event was posted,
+ * these flushes post on the executor of the EventType.<br>
+ * Coalescers without a window are only ever flushed by {@link #flush()}.
+ * <p>
+ * EventCoalescers are thread safe.
+ *
+ * @param <E> Type of Event this EventCoalescer posts.
+ */
+public sealed interface EventCoalescer<E extends Event> extends AutoCloseable permits EventCoalescerImpl
+{
+    /**
+     * Constructs a new Event, replacing any pending Event with the same key.
+     *
+     * @param eventArgs Args passed along to EventType to construct a new event instance.
+     * @return True if a pending Event was replaced, false otherwise.
+     * @throws IllegalStateException If this coalescer has been closed.
+     */
+    boolean post(Object... eventArgs);
+
+    /**
+     * Posts every pending Event on the calling thread, in the order their keys were first posted.
+     * <p>
+     * Concurrent flushes wait for one another, batches are always posted in the order they were taken.
+     *
+     * @return Number of Events posted.
+     */
+    int flush();
+
+    /**
+     * @return Number of Events currently pending.
+     */
+    int pending();
+
+    /**
+     * @return Total number of Events posted to this coalescer.
+     */
+    long posted();
+
+    /**
+     * @return Total number of Events replaced before they could be flushed.
+     */
+    long suppressed();
+
+    /**
+     * @return Total number of Events flushed to the EventType.
+     */
+    long dispatched();
+
+    /**
+     * @return Window after which pending Events are flushed or null if only flushed manually.
+     */
+    @Nullable
+    Duration window();
+
+    /**
+     * @return EventType this EventCoalescer posts to.
+     */
+    EventType<E> eventType();
+
+    /**
+     * Closes this coalescer, flushing any pending Events on the calling thread.
+     * <p>
+     * No more Events may be posted once closed.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,165 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Maps;
+import org.jetbrains.annotations.Nullable;
+import xyz.apex.utils.core.ApexUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+final class EventCoalescerImpl<E extends Event> implements EventCoalescer<E>
+{
+    // window id of manual flushes, which flush whatever is pending regardless of window
+    private static final long MANUAL = 0L;
+
+    private final EventTypeImpl<E> eventType;
+    private final Function<? super E, ?> keyFunction;
+    @Nullable private final Duration window;
+    // latest event per key, iterates in the order keys were first posted, only accessed while holding this
+    private final Map<Object, E> pending = Maps.newLinkedHashMap();
+    private long posted = 0L;
+    private long suppressed = 0L;
+    private long dispatched = 0L;
+    // incremented per window, a scheduled flush only flushes the window it was scheduled for
+    // so manual flushes never cause the next window to be cut short
+    private long windowId = 0L;
+    private boolean windowOpen = false;
+    private boolean closed = false;
+    // held while taking & posting a batch, so concurrent flushes dispatch their batches in the order they were taken
+    // taken before the lock on this, which posts alone still take so they never wait on dispatching listeners
+    private final Object dispatchLock = new Object();
+
+    EventCoalescerImpl(EventTypeImpl<E> eventType, Function<? super E, ?> keyFunction, @Nullable Duration window)
+    {
+        if(window != null && (window.isNegative() || window.isZero())) throw new IllegalArgumentException("EventCoalescer window must be positive: %s".formatted(window));
+        this.eventType = eventType;
+        this.keyFunction = keyFunction;
+        this.window = window;
+    }
+
+    @Override
+    public boolean post(Object... eventArgs)
+    {
+        // constructed & keyed outside the lock, so construction failures never leave the coalescer in a bad state
+        var event = eventType.newInstance(eventArgs);
+        var key = keyFunction.apply(event);
+
+        synchronized(this)
+        {
+            if(closed) throw new IllegalStateException("Can not post events to a closed EventCoalescer");
+            posted++;
+            var replaced = pending.put(key, event) != null;
+            if(replaced) suppressed++;
+
+            if(window != null && !windowOpen)
+            {
+                windowOpen = true;
+                var id = ++windowId;
+                var delayed = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, eventType.executor);
+                delayed.execute(() -> flushWindow(id));
+            }
+
+            return replaced;
+        }
+    }
+
+    @Override
+    public int flush()
+    {
+        return flush(MANUAL);
+    }
+
+    private int flush(long id)
+    {
+        synchronized(dispatchLock)
+        {
+            List<E> events;
+
+            synchronized(this)
+            {
+                // checked under the same lock starting the flush, a window flushed manually, or by closing, is never flushed again
+                // nor is the window opened by the next post cut short
+                if(id != MANUAL && (!windowOpen || windowId != id)) return 0;
+                windowOpen = false;
+                if(pending.isEmpty()) return 0;
+                events = List.copyOf(pending.values());
+                pending.clear();
+                dispatched += events.size();
+            }
+
+            // posted outside the lock on this, so listeners may post to this coalescer again
+            for(var event : events)
+            {
+                eventType.postEvent(event);
+            }
+
+            return events.size();
+        }
+    }
+
+    @Override
+    public synchronized int pending()
+    {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized long posted()
+    {
+        return posted;
+    }
+
+    @Override
+    public synchronized long suppressed()
+    {
+        return suppressed;
+    }
+
+    @Override
+    public synchronized long dispatched()
+    {
+        return dispatched;
+    }
+
+    @Nullable
+    @Override
+    public Duration window()
+    {
+        return window;
+    }
+
+    @Override
+    public EventType<E> eventType()
+    {
+        return eventType;
+    }
+
+    @Override
+    public void close()
+    {
+        synchronized(this)
+        {
+            if(closed) return;
+            closed = true;
+        }
+
+        flush();
+    }
+
+    private void flushWindow(long id)
+    {
+        try
+        {
+            flush(id);
+        }
+        catch(Throwable e)
+        {
+            // nobody is waiting on scheduled flushes, log rather than lose the failure
+            ApexUtils.LOGGER.error("Error occurred while flushing EventCoalescer for '{}'", eventType, e);
+        }
+    }
+}
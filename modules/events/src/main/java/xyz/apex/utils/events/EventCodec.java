@@ -0,0 +1,33 @@
+package xyz.apex.utils.events;
+
+import java.nio.ByteBuffer;
+
+/**
+ * EventCodec - Used to encode &#38; decode Event args of a single type, when recording &#38; replaying EventJournals.
+ * <p>
+ * Codecs are registered per arg type to {@link EventCodecs}.<br>
+ * Codecs must decode exactly the bytes they encoded, relying only on the buffer's current position.
+ *
+ * @param <T> Type of arg this EventCodec encodes.
+ */
+public interface EventCodec<T>
+{
+    /**
+     * Encodes the given arg into the buffer, at its current position.
+     * <p>
+     * Codecs may simply let any {@link java.nio.BufferOverflowException} propagate,
+     * the journal retries the record once more space is available.
+     *
+     * @param value Arg to be encoded.
+     * @param buffer Buffer to encode the arg into.
+     */
+    void encode(T value, ByteBuffer buffer);
+
+    /**
+     * Decodes an arg from the buffer, at its current position.
+     *
+     * @param buffer Buffer to decode the arg from.
+     * @return Decoded arg.
+     */
+    T decode(ByteBuffer buffer);
+}
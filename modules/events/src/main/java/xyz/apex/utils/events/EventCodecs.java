@@ -0,0 +1,46 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * EventCodecs - Registry of {@link EventCodec}s, keyed by the type of arg they encode.
+ * <p>
+ * Journals encode each arg with the codec of its nearest registered supertype, superclasses are preferred over interfaces.
+ * <p>
+ * Codecs for String &#38; every boxed primitive type are registered by default.
+ * <p>
+ * The same codecs must be registered when replaying an EventJournal as when it was recorded,
+ * journals refer to codecs by the name of the arg type they were registered for.
+ */
+public sealed interface EventCodecs permits EventCodecsImpl
+{
+    /**
+     * Registers a codec for the given arg type, replacing any codec already registered for it.
+     *
+     * @param type Type of arg the codec encodes.
+     * @param codec Codec to be registered.
+     * @return This EventCodecs.
+     * @param <T> Type of arg the codec encodes.
+     */
+    <T> EventCodecs register(Class<T> type, EventCodec<T> codec);
+
+    /**
+     * Looks up the codec registered for exactly the given arg type.
+     *
+     * @param type Type of arg to look up the codec for.
+     * @return Codec registered for the given type or null if none is registered.
+     * @param <T> Type of arg to look up the codec for.
+     */
+    @Nullable
+    <T> EventCodec<T> lookup(Class<T> type);
+
+    /**
+     * Constructs a new EventCodecs, with codecs for String &#38; every boxed primitive type registered.
+     *
+     * @return Newly constructed EventCodecs.
+     */
+    static EventCodecs defaults()
+    {
+        return new EventCodecsImpl();
+    }
+}
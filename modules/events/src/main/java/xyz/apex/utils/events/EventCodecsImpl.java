@@ -0,0 +1,125 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+final class EventCodecsImpl implements EventCodecs
+{
+    private final Map<Class<?>, EventCodec<?>> codecs = new ConcurrentHashMap<>();
+    // registered type resolved for each recorded arg type, cleared whenever codecs change
+    private final Map<Class<?>, Class<?>> resolved = new ConcurrentHashMap<>();
+
+    EventCodecsImpl()
+    {
+        register(String.class, new EventCodec<>() {
+            @Override
+            public void encode(String value, ByteBuffer buffer)
+            {
+                var bytes = value.getBytes(StandardCharsets.UTF_8);
+                buffer.putInt(bytes.length).put(bytes);
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer)
+            {
+                var bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        });
+
+        register(Boolean.class, codec((value, buffer) -> buffer.put((byte) (value ? 1 : 0)), buffer -> buffer.get() != 0));
+        register(Byte.class, codec((value, buffer) -> buffer.put(value), ByteBuffer::get));
+        register(Short.class, codec((value, buffer) -> buffer.putShort(value), ByteBuffer::getShort));
+        register(Character.class, codec((value, buffer) -> buffer.putChar(value), ByteBuffer::getChar));
+        register(Integer.class, codec((value, buffer) -> buffer.putInt(value), ByteBuffer::getInt));
+        register(Long.class, codec((value, buffer) -> buffer.putLong(value), ByteBuffer::getLong));
+        register(Float.class, codec((value, buffer) -> buffer.putFloat(value), ByteBuffer::getFloat));
+        register(Double.class, codec((value, buffer) -> buffer.putDouble(value), ByteBuffer::getDouble));
+    }
+
+    @Override
+    public <T> EventCodecs register(Class<T> type, EventCodec<T> codec)
+    {
+        codecs.put(type, codec);
+        resolved.clear();
+        return this;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> EventCodec<T> lookup(Class<T> type)
+    {
+        return (EventCodec<T>) codecs.get(type);
+    }
+
+    // nearest supertype of the given arg type a codec is registered for, superclasses are preferred over interfaces
+    // journals record args by this type, so replays decode them without the recorded subtype ever being loaded
+    @Nullable
+    Class<?> resolve(Class<?> type)
+    {
+        var cached = resolved.get(type);
+        if(cached != null) return cached;
+        var interfaces = new ArrayDeque<Class<?>>();
+
+        for(var current = type; current != null; current = current.getSuperclass())
+        {
+            if(codecs.containsKey(current)) return cache(type, current);
+            interfaces.addAll(Arrays.asList(current.getInterfaces()));
+        }
+
+        // breadth first, so directly implemented interfaces are preferred over the interfaces they extend
+        while(!interfaces.isEmpty())
+        {
+            var current = interfaces.poll();
+            if(codecs.containsKey(current)) return cache(type, current);
+            interfaces.addAll(Arrays.asList(current.getInterfaces()));
+        }
+
+        return null;
+    }
+
+    private Class<?> cache(Class<?> type, Class<?> registered)
+    {
+        resolved.put(type, registered);
+        return registered;
+    }
+
+    // journals refer to codecs by type name, as the recorded types may not be loadable while replaying
+    @Nullable
+    EventCodec<?> lookup(String typeName)
+    {
+        for(var entry : codecs.entrySet())
+        {
+            if(entry.getKey().getName().equals(typeName)) return entry.getValue();
+        }
+
+        return null;
+    }
+
+    private static <T> EventCodec<T> codec(BiConsumer<T, ByteBuffer> encoder, Function<ByteBuffer, T> decoder)
+    {
+        return new EventCodec<>() {
+            @Override
+            public void encode(T value, ByteBuffer buffer)
+            {
+                encoder.accept(value, buffer);
+            }
+
+            @Override
+            public T decode(ByteBuffer buffer)
+            {
+                return decoder.apply(buffer);
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package xyz.apex.utils.events;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+interface EventExecutors
+{
+    // default executor async listeners are invoked on
+    Executor DEFAULT = createDefault();
+
+    private static Executor createDefault()
+    {
+        try
+        {
+            // virtual threads only exist from java 21 onwards, look them up reflectively so we still run on 17
+            var factory = MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return (ExecutorService) factory.invokeExact();
+        }
+        catch(Throwable e)
+        {
+            return Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("ApexUtils-Events-%d").setDaemon(true).build());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package xyz.apex.utils.events;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * EventJournal - Records posted Events to an append-only, memory-mapped file, to be replayed later on.
+ * <p>
+ * Recording is opt-in per EventType, see {@link EventType#startRecording(EventJournal)}.<br>
+ * Each record holds the EventType, the args the Event was posted with, the time it was posted &#38; its outcome.
+ * Args are encoded using the {@link EventCodecs} the journal was created with.
+ * <p>
+ * Only posts made through {@link EventType#post(Object...)} &#38; {@link EventType#postForOutcome(Object...)}, including their arity specialized variants, are recorded.<br>
+ * Async, batched, coalesced &#38; queued posts are not recorded.
+ * <p>
+ * EventJournals are thread safe, records are appended in the order posts complete.
+ */
+public sealed interface EventJournal extends AutoCloseable permits EventJournalImpl
+{
+    /**
+     * @return Path of the file this EventJournal records to.
+     */
+    Path path();
+
+    /**
+     * @return Number of Events recorded so far.
+     */
+    long records();
+
+    /**
+     * Closes this EventJournal, stopping every EventType still recording to it.
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates a new EventJournal, replacing any existing file, encoding args using the default codecs.
+     *
+     * @param path Path of the file to record to.
+     * @return Newly created EventJournal.
+     * @throws IOException If the file could not be created.
+     */
+    static EventJournal create(Path path) throws IOException
+    {
+        return create(path, EventCodecs.defaults());
+    }
+
+    /**
+     * Creates a new EventJournal, replacing any existing file.
+     *
+     * @param path Path of the file to record to.
+     * @param codecs Codecs used to encode the args of recorded Events.
+     * @return Newly created EventJournal.
+     * @throws IOException If the file could not be created.
+     */
+    static EventJournal create(Path path, EventCodecs codecs) throws IOException
+    {
+        return new EventJournalImpl(path, codecs);
+    }
+
+    /**
+     * Replays every Event recorded to the given file, as fast as possible, decoding args using the default codecs.
+     *
+     * @param path Path of the file to replay.
+     * @return Report of the replayed Events.
+     * @throws IOException If the file could not be read.
+     * @see #replay(Path, double, EventCodecs)
+     */
+    static ReplayReport replay(Path path) throws IOException
+    {
+        return replay(path, Double.POSITIVE_INFINITY, EventCodecs.defaults());
+    }
+
+    /**
+     * Replays every Event recorded to the given file, decoding args using the default codecs.
+     *
+     * @param path Path of the file to replay.
+     * @param speed Speed relative to the recording, {@code 1} replays at the original speed, infinity replays as fast as possible.
+     * @return Report of the replayed Events.
+     * @throws IOException If the file could not be read.
+     * @see #replay(Path, double, EventCodecs)
+     */
+    static ReplayReport replay(Path path, double speed) throws IOException
+    {
+        return replay(path, speed, EventCodecs.defaults());
+    }
+
+    /**
+     * Replays every Event recorded to the given file, re-posting each on the calling thread.
+     * <p>
+     * Events are posted to the EventType registered for their recorded Event class,
+     * each Event class is initialized while replaying, so EventTypes registered in static initializers are found.
+     *
+     * @param path Path of the file to replay.
+     * @param speed Speed relative to the recording, {@code 1} replays at the original speed, infinity replays as fast as possible.
+     * @param codecs Codecs used to decode the args of recorded Events.
+     * @return Report of the replayed Events.
+     * @throws IOException If the file could not be read.
+     */
+    static ReplayReport replay(Path path, double speed, EventCodecs codecs) throws IOException
+    {
+        return EventReplayer.replay(path, speed, (EventCodecsImpl) codecs);
+    }
+
+    /**
+     * Report of a replayed EventJournal.
+     *
+     * @param events Number of Events replayed.
+     * @param elapsedNanos Time taken to replay every Event, including time spent waiting to match the recorded speed.
+     * @param types Throughput of each replayed EventType, in the order each EventType was first recorded.
+     */
+    record ReplayReport(long events, long elapsedNanos, List<Throughput> types)
+    {
+    }
+
+    /**
+     * Throughput of a single replayed EventType.
+     *
+     * @param eventType EventType the Events were replayed to.
+     * @param events Number of Events replayed.
+     * @param mismatches Number of Events whose replayed outcome differed from the recorded outcome.
+     * @param postNanos Time spent posting the Events, excluding time spent waiting to match the recorded speed.
+     */
+    record Throughput(EventType<?> eventType, long events, long mismatches, long postNanos)
+    {
+        /**
+         * @return Number of Events posted per second.
+         */
+        public double eventsPerSecond()
+        {
+            return postNanos == 0L ? 0D : events * 1_000_000_000D / postNanos;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+final class EventJournalImpl implements EventJournal
+{
+    static final int MAGIC = 0x41454A31; // AEJ1
+    static final short VERSION = 1;
+    // the file is mapped one chunk at a time, records never span chunks
+    static final int CHUNK_SIZE = 1 << 20;
+    // record tags, unwritten bytes are zero so the end of the journal reads as END
+    static final byte END = 0;
+    static final byte TYPE = 1;
+    static final byte CODEC = 2;
+    static final byte EVENT = 3;
+    // the rest of the chunk is unused, the next record starts at the next chunk
+    static final byte SKIP = 4;
+    static final byte NULL_ARG = -1;
+
+    private final Path path;
+    private final EventCodecsImpl codecs;
+    private final FileChannel channel;
+    private final long startNanos = System.nanoTime();
+    // every field below is only accessed while holding this
+    private MappedByteBuffer buffer;
+    private long chunkStart = 0L;
+    // ids are assigned in the order each type is first recorded, their names are written once then referred to by id
+    private final Map<EventType<?>, Short> typeIds = Maps.newHashMap();
+    private final Map<Class<?>, Byte> codecIds = Maps.newHashMap();
+    private final Set<EventTypeImpl<?>> recording = Sets.newHashSet();
+    private long records = 0L;
+    private boolean closed = false;
+
+    EventJournalImpl(Path path, EventCodecs codecs) throws IOException
+    {
+        this.path = path;
+        this.codecs = (EventCodecsImpl) codecs;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, CHUNK_SIZE);
+        buffer.putInt(MAGIC).putShort(VERSION).putInt(CHUNK_SIZE).putLong(System.currentTimeMillis());
+    }
+
+    @Override
+    public Path path()
+    {
+        return path;
+    }
+
+    @Override
+    public synchronized long records()
+    {
+        return records;
+    }
+
+    @Override
+    public void close()
+    {
+        Set<EventTypeImpl<?>> recording;
+
+        synchronized(this)
+        {
+            if(closed) return;
+            closed = true;
+            recording = Sets.newHashSet(this.recording);
+            this.recording.clear();
+            buffer.force();
+
+            try
+            {
+                channel.close();
+            }
+            catch(IOException e)
+            {
+                throw new UncheckedIOException("Failed to close event journal: '%s'".formatted(path), e);
+            }
+        }
+
+        recording.forEach(eventType -> eventType.stopRecording(this));
+    }
+
+    synchronized void attach(EventTypeImpl<?> eventType)
+    {
+        if(closed) throw new IllegalStateException("Can not record events to a closed EventJournal: '%s'".formatted(path));
+        recording.add(eventType);
+    }
+
+    synchronized void detach(EventTypeImpl<?> eventType)
+    {
+        recording.remove(eventType);
+    }
+
+    long timestamp()
+    {
+        return System.nanoTime() - startNanos;
+    }
+
+    // registered types to encode each arg as, resolved before posting so unsupported args fail before any listener is invoked
+    Class<?>[] codecTypes(Object[] args)
+    {
+        var resolved = new Class<?>[args.length];
+
+        for(var i = 0; i < args.length; i++)
+        {
+            var arg = args[i];
+            if(arg == null) continue;
+            var type = codecs.resolve(arg.getClass());
+            if(type == null) throw new IllegalStateException("No EventCodec registered for event arg type, nor any of its supertypes: '%s'".formatted(arg.getClass().getName()));
+            resolved[i] = type;
+        }
+
+        return resolved;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    synchronized void append(EventType<?> eventType, long timestamp, Class<?>[] codecTypes, Object[] args, int outcome)
+    {
+        // posts racing the journal being closed are dropped
+        if(closed) return;
+        var typeId = typeId(eventType);
+        var ids = new byte[args.length];
+        var argCodecs = new EventCodec<?>[args.length];
+
+        for(var i = 0; i < args.length; i++)
+        {
+            if(args[i] == null)
+            {
+                ids[i] = NULL_ARG;
+                continue;
+            }
+
+            ids[i] = codecId(codecTypes[i]);
+            argCodecs[i] = codecs.lookup(codecTypes[i]);
+        }
+
+        write(buffer -> {
+            buffer.put(EVENT).putShort(typeId).putLong(timestamp).put((byte) outcome).put((byte) args.length);
+
+            for(var i = 0; i < args.length; i++)
+            {
+                buffer.put(ids[i]);
+                if(args[i] != null) ((EventCodec) argCodecs[i]).encode(args[i], buffer);
+            }
+        });
+
+        records++;
+    }
+
+    private short typeId(EventType<?> eventType)
+    {
+        var id = typeIds.get(eventType);
+        if(id != null) return id;
+        if(typeIds.size() == Short.MAX_VALUE) throw new IllegalStateException("Too many event types recorded to event journal: '%s'".formatted(path));
+        var newId = (short) typeIds.size();
+        write(buffer -> putString(buffer.put(TYPE).putShort(newId), eventType.classType().getName()));
+        typeIds.put(eventType, newId);
+        return newId;
+    }
+
+    private byte codecId(Class<?> type)
+    {
+        var id = codecIds.get(type);
+        if(id != null) return id;
+        if(codecIds.size() == Byte.MAX_VALUE) throw new IllegalStateException("Too many event codecs recorded to event journal: '%s'".formatted(path));
+        var newId = (byte) codecIds.size();
+        write(buffer -> putString(buffer.put(CODEC).put(newId), type.getName()));
+        codecIds.put(type, newId);
+        return newId;
+    }
+
+    // writes a single record, moving onto the next chunk if it does not fit into the current one
+    private void write(Consumer<ByteBuffer> writer)
+    {
+        for(var retried = false; ; retried = true)
+        {
+            var start = buffer.position();
+
+            try
+            {
+                writer.accept(buffer);
+                return;
+            }
+            catch(BufferOverflowException e)
+            {
+                if(retried)
+                {
+                    discard(start);
+                    throw new IllegalStateException("Event record exceeds the event journal chunk size of %d bytes".formatted(CHUNK_SIZE), e);
+                }
+
+                // partially written record is replaced, telling readers to continue at the next chunk
+                buffer.put(start, SKIP);
+                nextChunk();
+            }
+            catch(RuntimeException e)
+            {
+                discard(start);
+                throw e;
+            }
+        }
+    }
+
+    // partially written record is overwritten by the next record
+    private void discard(int start)
+    {
+        buffer.put(start, END);
+        buffer.position(start);
+    }
+
+    private void nextChunk()
+    {
+        try
+        {
+            buffer.force();
+            chunkStart += CHUNK_SIZE;
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, chunkStart, CHUNK_SIZE);
+        }
+        catch(IOException e)
+        {
+            throw new UncheckedIOException("Failed to grow event journal: '%s'".formatted(path), e);
+        }
+    }
+
+    static void putString(ByteBuffer buffer, String value)
+    {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    static String getString(ByteBuffer buffer)
+    {
+        var bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "EventJournal[%s]".formatted(path);
+    }
+}
@@ -0,0 +1,49 @@
+package xyz.apex.utils.events;
+
+import java.util.function.Function;
+
+/**
+ * EventKey - Extracts a key from Events, used to index keyed listeners.
+ * <p>
+ * Keyed listeners sharing an EventKey are indexed by their key, each post computes its key once &#38;
+ * reaches only the listeners registered for that key through a single hash lookup.
+ * <p>
+ * EventKeys compare by identity, they should be created once &#38; stored in a constant.
+ *
+ * @param <E> Type of Event keys are extracted from.
+ * @param <K> Type of key.
+ * @see EventType#addListener(EventKey, Object, java.util.function.Consumer)
+ */
+public final class EventKey<E extends Event, K>
+{
+    private final Function<? super E, ? extends K> keyFunction;
+
+    private EventKey(Function<? super E, ? extends K> keyFunction)
+    {
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Extracts the key from the given Event.
+     *
+     * @param event Event to extract the key from.
+     * @return Key of the given Event.
+     */
+    public K key(E event)
+    {
+        return keyFunction.apply(event);
+    }
+
+    /**
+     * Constructs a new EventKey.
+     *
+     * @param keyFunction Function extracting the key from Events, keys must implement equals &#38; hashCode.
+     * @return Newly constructed EventKey.
+     * @param <E> Type of Event keys are extracted from.
+     * @param <K> Type of key.
+     */
+    public static <E extends Event, K> EventKey<E, K> of(Function<? super E, ? extends K> keyFunction)
+    {
+        return new EventKey<>(keyFunction);
+    }
+}
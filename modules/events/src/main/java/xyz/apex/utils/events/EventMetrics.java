@@ -0,0 +1,62 @@
+package xyz.apex.utils.events;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * EventMetrics - Records how often &#38; how long Events of an EventType take to post.
+ * <p>
+ * Metrics are opt-in per EventType, see {@link EventType#enableMetrics()}.
+ * <p>
+ * Post outcomes are recorded for every post, including batched posts.<br>
+ * Listener latencies are recorded for every listener invocation, apart from those made by batched posts.
+ */
+public sealed interface EventMetrics permits EventMetricsImpl
+{
+    /**
+     * @return EventType these metrics are recorded for.
+     */
+    EventType<?> eventType();
+
+    /**
+     * @return Point in time copy of the recorded metrics.
+     */
+    Snapshot snapshot();
+
+    /**
+     * Clears all recorded metrics.
+     */
+    void reset();
+
+    /**
+     * Point in time copy of the metrics recorded for an EventType.
+     *
+     * @param eventType EventType these metrics were recorded for.
+     * @param passed Number of posts which {@link EventResult#PASS passed}.
+     * @param successful Number of posts which were {@link EventResult#SUCCESS successful}.
+     * @param cancelled Number of posts which were {@link EventResult#CANCELLED cancelled}.
+     * @param listeners Latencies of every listener invoked since metrics were enabled, in invocation order.
+     */
+    record Snapshot(EventType<?> eventType, long passed, long successful, long cancelled, List<ListenerLatency> listeners)
+    {
+        /**
+         * @return Total number of posts.
+         */
+        public long posts()
+        {
+            return passed + successful + cancelled;
+        }
+    }
+
+    /**
+     * Point in time copy of the latencies recorded for a single listener.
+     *
+     * @param listener Listener these latencies were recorded for.
+     * @param priority Priority the listener was registered with.
+     * @param async Whether the listener was registered as async.
+     * @param latency Recorded invocation latencies.
+     */
+    record ListenerLatency(Consumer<?> listener, EventPriority priority, boolean async, LatencySnapshot latency)
+    {
+    }
+}
@@ -0,0 +1,79 @@
+package xyz.apex.utils.events;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EventMetricsImpl implements EventMetrics
+{
+    private static final Comparator<ListenerEntry<?>> LISTENER_ORDER = Comparator.<ListenerEntry<?>, Boolean>comparing(entry -> entry.async).thenComparing(entry -> entry.priority).thenComparingLong(entry -> entry.order);
+
+    private final EventType<?> eventType;
+    final LongAdder passed = new LongAdder();
+    final LongAdder successful = new LongAdder();
+    final LongAdder cancelled = new LongAdder();
+    // keyed by identity, entries are never equal to one another
+    // only ever holds real listeners, groups time each of their members, pruned as listeners are removed
+    private final Map<ListenerEntry<?>, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    EventMetricsImpl(EventType<?> eventType)
+    {
+        this.eventType = eventType;
+    }
+
+    LatencyHistogram latency(ListenerEntry<?> entry)
+    {
+        var histogram = latencies.get(entry);
+        return histogram == null ? latencies.computeIfAbsent(entry, key -> new LatencyHistogram()) : histogram;
+    }
+
+    // invoked as the owning event type rebuilds its listeners
+    void prune()
+    {
+        latencies.keySet().removeIf(entry -> !entry.isRegistered());
+    }
+
+    void recordOutcome(int outcome)
+    {
+        switch(outcome)
+        {
+            case EventResult.CANCELLED -> cancelled.increment();
+            case EventResult.SUCCESS -> successful.increment();
+            default -> passed.increment();
+        }
+    }
+
+    @Override
+    public EventType<?> eventType()
+    {
+        return eventType;
+    }
+
+    @Override
+    public Snapshot snapshot()
+    {
+        // in flight posts may still time listeners removed since the last prune
+        var listeners = latencies.entrySet().stream().filter(entry -> entry.getKey().isRegistered()).sorted(Map.Entry.comparingByKey(LISTENER_ORDER)).map(entry -> {
+            var listener = entry.getKey();
+            return new ListenerLatency(listener.listener, listener.priority, listener.async, entry.getValue().snapshot());
+        }).toList();
+
+        return new Snapshot(eventType, passed.sum(), successful.sum(), cancelled.sum(), listeners);
+    }
+
+    @Override
+    public void reset()
+    {
+        passed.reset();
+        successful.reset();
+        cancelled.reset();
+        latencies.clear();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "EventMetrics[%s]".formatted(eventType);
+    }
+}
@@ -0,0 +1,28 @@
+package xyz.apex.utils.events;
+
+/**
+ * Priorities listeners may be registered with.
+ * <p>
+ * Listeners are invoked from {@link #HIGHEST} through to {@link #MONITOR},
+ * listeners sharing a priority are invoked in the order they were registered.
+ */
+public enum EventPriority
+{
+    /**
+     * Invoked first, should be used by listeners which need the first say on cancellation.
+     */
+    HIGHEST,
+    HIGH,
+    /**
+     * Default priority for listeners.
+     */
+    NORMAL,
+    LOW,
+    LOWEST,
+    /**
+     * Invoked last, should be used by listeners only observing the final outcome of the event.
+     * <p>
+     * Monitor listeners should never modify or cancel the event.
+     */
+    MONITOR
+}
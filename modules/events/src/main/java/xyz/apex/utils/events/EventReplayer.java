@@ -0,0 +1,155 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Maps;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+// replays events recorded by EventJournalImpl, see there for the record format
+final class EventReplayer
+{
+    private final Path path;
+    private final EventCodecsImpl codecs;
+    private final Map<Short, Replayed> types = Maps.newLinkedHashMap();
+    private final Map<Byte, EventCodec<?>> argCodecs = Maps.newHashMap();
+
+    private EventReplayer(Path path, EventCodecsImpl codecs)
+    {
+        this.path = path;
+        this.codecs = codecs;
+    }
+
+    static EventJournal.ReplayReport replay(Path path, double speed, EventCodecsImpl codecs) throws IOException
+    {
+        if(Double.isNaN(speed) || speed <= 0D) throw new IllegalArgumentException("Replay speed must be positive: %s".formatted(speed));
+        return new EventReplayer(path, codecs).replay(speed);
+    }
+
+    private EventJournal.ReplayReport replay(double speed) throws IOException
+    {
+        ByteBuffer buffer;
+
+        try(var channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            if(channel.size() > Integer.MAX_VALUE) throw new IllegalStateException("Event journal is too large to be replayed: '%s'".formatted(path));
+            // mappings stay valid once the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        }
+
+        if(buffer.remaining() < 18 || buffer.getInt() != EventJournalImpl.MAGIC) throw new IllegalStateException("Not an event journal: '%s'".formatted(path));
+        var version = buffer.getShort();
+        if(version != EventJournalImpl.VERSION) throw new IllegalStateException("Unsupported event journal version %d: '%s'".formatted(version, path));
+        var chunkSize = buffer.getInt();
+        buffer.getLong(); // recording start time, only of interest to humans
+
+        var paced = !Double.isInfinite(speed);
+        var events = 0L;
+        var start = System.nanoTime();
+
+        while(buffer.hasRemaining())
+        {
+            var position = buffer.position();
+            var tag = buffer.get();
+
+            switch(tag)
+            {
+                case EventJournalImpl.END -> buffer.position(buffer.limit());
+                case EventJournalImpl.SKIP -> buffer.position(Math.min(buffer.limit(), (position / chunkSize + 1) * chunkSize));
+                case EventJournalImpl.TYPE -> {
+                    var id = buffer.getShort();
+                    types.put(id, new Replayed(lookupType(EventJournalImpl.getString(buffer))));
+                }
+                case EventJournalImpl.CODEC -> {
+                    var id = buffer.get();
+                    var typeName = EventJournalImpl.getString(buffer);
+                    var codec = codecs.lookup(typeName);
+                    if(codec == null) throw new IllegalStateException("No EventCodec registered for recorded event arg type: '%s'".formatted(typeName));
+                    argCodecs.put(id, codec);
+                }
+                case EventJournalImpl.EVENT -> {
+                    var type = types.get(buffer.getShort());
+                    var timestamp = buffer.getLong();
+                    var outcome = buffer.get();
+                    var args = new Object[buffer.get()];
+                    for(var i = 0; i < args.length; i++) args[i] = decode(buffer, buffer.get());
+                    if(type == null) throw new IllegalStateException("Corrupt event journal, event recorded for unknown event type at %d: '%s'".formatted(position, path));
+
+                    if(paced)
+                    {
+                        // waits until the event is due, relative to when replaying started
+                        var due = start + (long) (timestamp / speed);
+                        for(var now = System.nanoTime(); now < due; now = System.nanoTime()) LockSupport.parkNanos(this, due - now);
+                    }
+
+                    type.post(args, outcome);
+                    events++;
+                }
+                default -> throw new IllegalStateException("Corrupt event journal, unknown record tag %d at %d: '%s'".formatted(tag, position, path));
+            }
+        }
+
+        var elapsed = System.nanoTime() - start;
+        var throughput = types.values().stream().map(Replayed::throughput).toList();
+        return new EventJournal.ReplayReport(events, elapsed, throughput);
+    }
+
+    private Object decode(ByteBuffer buffer, byte codecId)
+    {
+        if(codecId == EventJournalImpl.NULL_ARG) return null;
+        var codec = argCodecs.get(codecId);
+        if(codec == null) throw new IllegalStateException("Corrupt event journal, arg recorded with unknown codec %d: '%s'".formatted(codecId, path));
+        return codec.decode(buffer);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private EventType<?> lookupType(String className)
+    {
+        Class<?> eventClass;
+
+        try
+        {
+            // ensures the event class has run its static initializer, which is where event types are usually registered
+            eventClass = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+        }
+        catch(ClassNotFoundException e)
+        {
+            throw new IllegalStateException("Failed to find recorded event class: '%s'".formatted(className), e);
+        }
+
+        var eventType = Event.class.isAssignableFrom(eventClass) ? EventType.lookup((Class) eventClass) : null;
+        if(eventType == null) throw new IllegalStateException("No event type registered for recorded event class: '%s'".formatted(className));
+        return eventType;
+    }
+
+    private static final class Replayed
+    {
+        private final EventType<?> eventType;
+        private long events = 0L;
+        private long mismatches = 0L;
+        private long postNanos = 0L;
+
+        private Replayed(EventType<?> eventType)
+        {
+            this.eventType = eventType;
+        }
+
+        private void post(Object[] args, int outcome)
+        {
+            var start = System.nanoTime();
+            var replayed = eventType.postForOutcome(args);
+            postNanos += System.nanoTime() - start;
+            events++;
+            if(replayed != outcome) mismatches++;
+        }
+
+        private EventJournal.Throughput throughput()
+        {
+            return new EventJournal.Throughput(eventType, events, mismatches, postNanos);
+        }
+    }
+}
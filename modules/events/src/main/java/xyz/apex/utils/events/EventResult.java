@@ -1,5 +1,6 @@
 package xyz.apex.utils.events;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -81,6 +82,16 @@ public sealed interface EventResult<E extends Event> extends IntSupplier permits
      */
     boolean wasPassed();
 
+    /**
+     * Returns every listener which threw while the event was being posted.
+     * <p>
+     * Always empty for EventTypes using {@link ErrorPolicy#PROPAGATE}, as the first error is rethrown to the poster.
+     *
+     * @return Failures of listeners invoked while posting, in invocation order.
+     * @see ErrorPolicy
+     */
+    List<ListenerFailure> failures();
+
     /**
      * Maps this EventResult to requested value.
      *
@@ -123,6 +134,88 @@ public sealed interface EventResult<E extends Event> extends IntSupplier permits
      */
     OptionalDouble mapToDouble(ToDoubleFunction<E> mapper);
 
+    /**
+     * Maps this EventResult to requested value, returning the given default if the Event was passed.
+     * <p>
+     * Unlike {@link #mapToInt(ToIntFunction)} no OptionalInt is constructed, hot paths should prefer this.
+     *
+     * @param mapper Function used to map to requested value.
+     * @param defaultValue Value returned if the Event was passed.
+     * @return Result after mapping this EventResult.
+     */
+    int mapToInt(ToIntFunction<E> mapper, int defaultValue);
+
+    /**
+     * Maps this EventResult to requested value, returning the given default if the Event was passed.
+     *
+     * @param mapper Function used to map to requested value.
+     * @param defaultValue Value returned if the Event was passed.
+     * @return Result after mapping this EventResult.
+     * @see #mapToInt(ToIntFunction, int)
+     */
+    long mapToLong(ToLongFunction<E> mapper, long defaultValue);
+
+    /**
+     * Maps this EventResult to requested value, returning the given default if the Event was passed.
+     *
+     * @param mapper Function used to map to requested value.
+     * @param defaultValue Value returned if the Event was passed.
+     * @return Result after mapping this EventResult.
+     * @see #mapToInt(ToIntFunction, int)
+     */
+    double mapToDouble(ToDoubleFunction<E> mapper, double defaultValue);
+
+    /**
+     * Returns the value matching the outcome of this EventResult.
+     *
+     * @param ifCancelled Value returned if the Event was cancelled.
+     * @param ifSuccess Value returned if the Event was successful.
+     * @param ifPass Value returned if the Event was passed.
+     * @return Value matching the outcome of this EventResult.
+     * @see #switchOn(int, int, int, int)
+     */
+    int switchOn(int ifCancelled, int ifSuccess, int ifPass);
+
+    /**
+     * Invokes the method of the given Handler matching the outcome of this EventResult.
+     * <p>
+     * Handlers are intended to be constructed once &#38; reused, rather than allocating a lambda per consumer on every post.
+     *
+     * @param handler Handler to be invoked.
+     */
+    void handle(Handler<? super E> handler);
+
+    /**
+     * Invokes the method of the given IntHandler matching the outcome of this EventResult.
+     *
+     * @param handler Handler to be invoked.
+     * @return Value returned by the handler.
+     * @see #handle(Handler)
+     */
+    int handleAsInt(IntHandler<? super E> handler);
+
+    /**
+     * Returns the value matching the given outcome.
+     * <p>
+     * Intended for outcomes returned by {@link EventType#postForOutcome(Object...)}, where no EventResult is constructed.
+     *
+     * @param outcome {@link EventResult#CANCELLED}, {@link EventResult#SUCCESS} or {@link EventResult#PASS}.
+     * @param ifCancelled Value returned if the outcome is cancelled.
+     * @param ifSuccess Value returned if the outcome is successful.
+     * @param ifPass Value returned if the outcome is passed.
+     * @return Value matching the given outcome.
+     */
+    static int switchOn(int outcome, int ifCancelled, int ifSuccess, int ifPass)
+    {
+        return switch(outcome)
+        {
+            case CANCELLED -> ifCancelled;
+            case SUCCESS -> ifSuccess;
+            case PASS -> ifPass;
+            default -> throw new IllegalArgumentException("Unknown EventResult outcome: %d".formatted(outcome));
+        };
+    }
+
     /**
      * Creates a new successful EventResult for the given Event.
      *
@@ -150,14 +243,82 @@ public sealed interface EventResult<E extends Event> extends IntSupplier permits
     }
 
     /**
-     * Creates a new pass EventResult for the given Event.
+     * Returns the pass EventResult for the given EventType.
+     * <p>
+     * Pass EventResults hold no Event, a single cached instance is shared per EventType.
      *
-     * @param eventType EventType to create this EventResult for.
-     * @return The newly constructed EventResult.
-     * @param <E> Type of Event to create this EventResult for.
+     * @param eventType EventType to return the EventResult for.
+     * @return The cached pass EventResult.
+     * @param <E> Type of Event to return this EventResult for.
      */
     static <E extends Event> EventResult<E> pass(EventType<E> eventType)
     {
-        return new EventResultImpl<>(eventType, null, PASS);
+        return ((EventTypeImpl<E>) eventType).passResult;
+    }
+
+    /**
+     * Error thrown by a single listener while an event was being posted.
+     *
+     * @param listener Listener which threw.
+     * @param error Error thrown by the listener.
+     */
+    record ListenerFailure(Consumer<?> listener, Throwable error)
+    {
+    }
+
+    /**
+     * Handler invoked per outcome of an EventResult, see {@link #handle(Handler)}.
+     * <p>
+     * Every method does nothing by default.
+     *
+     * @param <E> Type of event this Handler handles.
+     */
+    interface Handler<E extends Event>
+    {
+        /**
+         * @param event Event which was posted successfully.
+         */
+        default void onSuccess(E event)
+        {
+        }
+
+        /**
+         * @param event Event which was cancelled.
+         */
+        default void onCancelled(E event)
+        {
+        }
+
+        /**
+         * Invoked if the Event was passed.
+         */
+        default void onPass()
+        {
+        }
+    }
+
+    /**
+     * Handler invoked per outcome of an EventResult, returning a primitive int, see {@link #handleAsInt(IntHandler)}.
+     *
+     * @param <E> Type of event this IntHandler handles.
+     */
+    interface IntHandler<E extends Event>
+    {
+        /**
+         * @param event Event which was posted successfully.
+         * @return Value to be returned by {@link #handleAsInt(IntHandler)}.
+         */
+        int onSuccess(E event);
+
+        /**
+         * @param event Event which was cancelled.
+         * @return Value to be returned by {@link #handleAsInt(IntHandler)}.
+         */
+        int onCancelled(E event);
+
+        /**
+         * @return Value to be returned by {@link #handleAsInt(IntHandler)}.
+         */
+        int onPass();
     }
 }
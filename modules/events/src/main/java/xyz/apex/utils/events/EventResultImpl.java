@@ -2,6 +2,7 @@ package xyz.apex.utils.events;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -14,12 +15,19 @@ final class EventResultImpl<E extends Event> implements EventResult<E>
     @Nullable
     private final E event;
     private final int type;
+    private final List<ListenerFailure> failures;
 
     EventResultImpl(EventType<E> eventType, @Nullable E event, int type)
+    {
+        this(eventType, event, type, List.of());
+    }
+
+    EventResultImpl(EventType<E> eventType, @Nullable E event, int type, List<ListenerFailure> failures)
     {
         this.eventType = eventType;
         this.event = event;
         this.type = type;
+        this.failures = failures;
     }
 
     @Override
@@ -71,6 +79,12 @@ final class EventResultImpl<E extends Event> implements EventResult<E>
         return type == PASS;
     }
 
+    @Override
+    public List<ListenerFailure> failures()
+    {
+        return failures;
+    }
+
     @Override
     public <T> Optional<T> map(Function<E, T> mapper)
     {
@@ -102,6 +116,52 @@ final class EventResultImpl<E extends Event> implements EventResult<E>
         return event == null ? OptionalDouble.empty() : OptionalDouble.of(mapper.applyAsDouble(event));
     }
 
+    @Override
+    public int mapToInt(ToIntFunction<E> mapper, int defaultValue)
+    {
+        return event == null ? defaultValue : mapper.applyAsInt(event);
+    }
+
+    @Override
+    public long mapToLong(ToLongFunction<E> mapper, long defaultValue)
+    {
+        return event == null ? defaultValue : mapper.applyAsLong(event);
+    }
+
+    @Override
+    public double mapToDouble(ToDoubleFunction<E> mapper, double defaultValue)
+    {
+        return event == null ? defaultValue : mapper.applyAsDouble(event);
+    }
+
+    @Override
+    public int switchOn(int ifCancelled, int ifSuccess, int ifPass)
+    {
+        return EventResult.switchOn(type, ifCancelled, ifSuccess, ifPass);
+    }
+
+    @Override
+    public void handle(Handler<? super E> handler)
+    {
+        switch(type)
+        {
+            case CANCELLED -> handler.onCancelled(event);
+            case SUCCESS -> handler.onSuccess(event);
+            default -> handler.onPass();
+        }
+    }
+
+    @Override
+    public int handleAsInt(IntHandler<? super E> handler)
+    {
+        return switch(type)
+        {
+            case CANCELLED -> handler.onCancelled(event);
+            case SUCCESS -> handler.onSuccess(event);
+            default -> handler.onPass();
+        };
+    }
+
     @Override
     public int getAsInt()
     {
@@ -0,0 +1,94 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// bounded lock-free multi producer / multi consumer ring buffer
+// each slot carries a sequence number, telling producers and consumers whose turn it is to claim the slot
+// producers may also poll, which is how the oldest element is dropped when full
+final class EventRing<T>
+{
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    EventRing(int capacity)
+    {
+        // round up to a power of two, so positions map to slots with a mask rather than a modulo
+        var size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        sequences = new AtomicLongArray(size);
+        elements = new AtomicReferenceArray<>(size);
+        for(var i = 0; i < size; i++) sequences.set(i, i);
+    }
+
+    boolean offer(T element)
+    {
+        var position = tail.get();
+
+        for(;;)
+        {
+            var index = (int) (position & mask);
+            var difference = sequences.get(index) - position;
+
+            if(difference == 0)
+            {
+                if(tail.compareAndSet(position, position + 1))
+                {
+                    elements.lazySet(index, element);
+                    // publishes the element to consumers
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            }
+            // slot still holds an element from the previous lap, ring is full
+            else if(difference < 0) return false;
+
+            position = tail.get();
+        }
+    }
+
+    @Nullable
+    T poll()
+    {
+        var position = head.get();
+
+        for(;;)
+        {
+            var index = (int) (position & mask);
+            var difference = sequences.get(index) - (position + 1);
+
+            if(difference == 0)
+            {
+                if(head.compareAndSet(position, position + 1))
+                {
+                    var element = elements.get(index);
+                    elements.lazySet(index, null);
+                    // hands the slot back to producers for the next lap
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+            }
+            // slot not yet published, ring is empty
+            else if(difference < 0) return null;
+
+            position = head.get();
+        }
+    }
+
+    int size()
+    {
+        var size = tail.get() - head.get();
+        return (int) Math.max(0L, Math.min(size, mask + 1L));
+    }
+
+    int capacity()
+    {
+        return mask + 1;
+    }
+}
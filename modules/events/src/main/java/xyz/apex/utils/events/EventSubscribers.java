@@ -0,0 +1,277 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Sets;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// binds @SubscribeEvent methods as listeners
+interface EventSubscribers
+{
+    // scanned once per class, instance methods of a class are only ever bound by creating a new consumer per instance
+    ClassValue<Subscriber[]> INSTANCE_SUBSCRIBERS = new ClassValue<>() {
+        @Override
+        protected Subscriber[] computeValue(Class<?> type)
+        {
+            return scan(type, false);
+        }
+    };
+    // static methods are bound once, their consumers are shared by every subscribe of the class
+    ClassValue<Subscriber[]> STATIC_SUBSCRIBERS = new ClassValue<>() {
+        @Override
+        protected Subscriber[] computeValue(Class<?> type)
+        {
+            return scan(type, true);
+        }
+    };
+    // registrations of every subscribed instance, weak keys compare by identity, so subscribers overriding equals are never confused
+    // bound consumers capture their subscriber & are held by their event types, so entries only ever clear once unsubscribed
+    Map<Object, List<Registration>> BOUND = new MapMaker().weakKeys().makeMap();
+
+    static void subscribe(Object subscriber)
+    {
+        if(subscriber instanceof Class<?> type)
+        {
+            for(var entry : STATIC_SUBSCRIBERS.get(type))
+            {
+                entry.register(entry.bindStatic());
+            }
+
+            return;
+        }
+
+        var subscribers = INSTANCE_SUBSCRIBERS.get(subscriber.getClass());
+        if(subscribers.length == 0) return;
+        var bound = Lists.<Registration>newArrayListWithCapacity(subscribers.length);
+
+        for(var entry : subscribers)
+        {
+            bound.add(entry.register(entry.bind(subscriber)));
+        }
+
+        BOUND.merge(subscriber, bound, (current, added) -> {
+            var merged = Lists.newArrayList(current);
+            merged.addAll(added);
+            return merged;
+        });
+    }
+
+    static void unsubscribe(Object subscriber)
+    {
+        if(subscriber instanceof Class<?> type)
+        {
+            for(var entry : STATIC_SUBSCRIBERS.get(type))
+            {
+                entry.eventType.removeListener(entry.bindStatic());
+            }
+
+            return;
+        }
+
+        var bound = BOUND.remove(subscriber);
+        if(bound != null) bound.forEach(Registration::close);
+    }
+
+    private static Subscriber[] scan(Class<?> type, boolean statics)
+    {
+        var subscribers = Lists.<Subscriber>newArrayList();
+        // signatures already seen lower in the hierarchy, overridden methods are only bound once
+        var seen = Sets.<String>newHashSet();
+
+        for(var current = type; current != null && current != Object.class; current = current.getSuperclass())
+        {
+            for(var method : current.getDeclaredMethods())
+            {
+                if(method.isBridge() || method.isSynthetic()) continue;
+                if(Modifier.isStatic(method.getModifiers()) != statics) continue;
+                if(!statics && !seen.add(method.getName() + Arrays.toString(method.getParameterTypes()))) continue;
+                var annotation = method.getAnnotation(SubscribeEvent.class);
+                if(annotation == null) continue;
+                subscribers.add(new Subscriber(method, annotation));
+            }
+
+            // static methods belong to the class declaring them, never inherit them
+            if(statics) break;
+        }
+
+        return subscribers.toArray(Subscriber[]::new);
+    }
+
+    // resolved against the class declaring the method, lookups into subclasses can not access private methods of their superclasses
+    // null when the package of the class is not opened to this module
+    @Nullable
+    private static MethodHandles.Lookup privateLookup(Class<?> declaringClass)
+    {
+        try
+        {
+            return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+        }
+        catch(IllegalAccessException e)
+        {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(@Nullable MethodHandles.Lookup lookup, Method method)
+    {
+        try
+        {
+            if(lookup != null) return lookup.unreflect(method);
+            // only public methods of exported packages are reachable without a private lookup
+            return MethodHandles.publicLookup().unreflect(method);
+        }
+        catch(IllegalAccessException e)
+        {
+            throw new IllegalStateException("Failed to access event subscriber method, its package must be opened to the events module or the method made public: '%s'".formatted(method), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventType<Event> resolveEventType(Method method)
+    {
+        var parameters = method.getParameterTypes();
+        if(parameters.length != 1 || !Event.class.isAssignableFrom(parameters[0]) || method.getReturnType() != void.class) throw new IllegalStateException("Event subscriber methods must return void & take a single Event parameter: '%s'".formatted(method));
+        var eventClass = (Class<Event>) parameters[0];
+
+        try
+        {
+            // ensures the event class has run its static initializer, which is where event types are usually registered
+            Class.forName(eventClass.getName(), true, eventClass.getClassLoader());
+        }
+        catch(ClassNotFoundException e)
+        {
+            throw new IllegalStateException("Failed to initialize event class: '%s'".formatted(eventClass.getName()), e);
+        }
+
+        var eventType = EventType.lookup(eventClass);
+        if(eventType == null) throw new IllegalStateException("No event type registered for event subscriber method: '%s'".formatted(method));
+        return eventType;
+    }
+
+    final class Subscriber
+    {
+        private final EventType<Event> eventType;
+        private final EventPriority priority;
+        private final boolean receiveCancelled;
+        private final boolean async;
+        // (Owner)Consumer for instance methods, ()Consumer for static methods
+        // null when consumers can not be generated, the method is then invoked through its handle instead
+        @Nullable private final MethodHandle factory;
+        private final MethodHandle target;
+        // static methods only, lazily bound consumer shared by every subscribe
+        @Nullable private volatile Consumer<Event> staticListener = null;
+
+        private Subscriber(Method method, SubscribeEvent annotation)
+        {
+            eventType = resolveEventType(method);
+            priority = annotation.priority();
+            receiveCancelled = annotation.receiveCancelled();
+            async = annotation.async();
+            var lookup = privateLookup(method.getDeclaringClass());
+            target = unreflect(lookup, method);
+
+            // lookups teleported into other modules lose module access, which generating consumers requires
+            if(lookup == null || !lookup.hasFullPrivilegeAccess())
+            {
+                factory = null;
+                return;
+            }
+
+            try
+            {
+                var isStatic = Modifier.isStatic(method.getModifiers());
+                var factoryType = isStatic ? MethodType.methodType(Consumer.class) : MethodType.methodType(Consumer.class, method.getDeclaringClass());
+                // generates a Consumer class invoking the method directly, the same as a hand written lambda would
+                var callSite = LambdaMetafactory.metafactory(lookup, "accept", factoryType, MethodType.methodType(void.class, Object.class), target, MethodType.methodType(void.class, method.getParameterTypes()[0]));
+                factory = callSite.getTarget();
+            }
+            catch(Throwable e)
+            {
+                throw new IllegalStateException("Failed to bind event subscriber method: '%s'".formatted(method), e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Consumer<Event> bind(Object instance)
+        {
+            if(factory == null) return new HandleListener(target.bindTo(instance));
+
+            try
+            {
+                return (Consumer<Event>) factory.invoke(instance);
+            }
+            catch(Throwable e)
+            {
+                throw new IllegalStateException("Failed to bind event subscriber: '%s'".formatted(instance), e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Consumer<Event> bindStatic()
+        {
+            var listener = staticListener;
+            if(listener != null) return listener;
+
+            try
+            {
+                // racing threads may each bind a consumer, only the first one written is ever registered
+                synchronized(this)
+                {
+                    listener = staticListener;
+                    if(listener == null) staticListener = listener = factory == null ? new HandleListener(target) : (Consumer<Event>) factory.invoke();
+                    return listener;
+                }
+            }
+            catch(Throwable e)
+            {
+                throw new IllegalStateException("Failed to bind static event subscriber for event type: '%s'".formatted(eventType), e);
+            }
+        }
+
+        private Registration register(Consumer<Event> listener)
+        {
+            if(async) return eventType.addAsyncListener(priority, receiveCancelled, listener);
+            return eventType.addListener(priority, receiveCancelled, listener);
+        }
+    }
+
+    // invokes a subscriber method through its handle, for methods whose declaring class consumers can not be generated for
+    final class HandleListener implements Consumer<Event>
+    {
+        private final MethodHandle target;
+
+        private HandleListener(MethodHandle target)
+        {
+            // adapted once up front, so every invocation is exact
+            this.target = target.asType(MethodType.methodType(void.class, Event.class));
+        }
+
+        @Override
+        public void accept(Event event)
+        {
+            try
+            {
+                target.invokeExact(event);
+            }
+            catch(RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch(Throwable e)
+            {
+                throw new IllegalStateException("Event subscriber method threw a checked exception", e);
+            }
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package xyz.apex.utils.events;
 
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Base interface of all EventType instances.
@@ -15,10 +22,147 @@ public sealed interface EventType<E extends Event> permits EventTypeImpl
 {
     /**
      * Registers a new listener.
+     * <p>
+     * Listener is registered with {@link EventPriority#NORMAL} priority &#38; receives cancelled events.
+     *
+     * @param listener Listener to be invoked when event of given EventType is posted.
+     * @return Registration used to unregister the listener.
+     */
+    Registration addListener(Consumer<E> listener);
+
+    /**
+     * Registers a new listener with the given priority.
+     * <p>
+     * Listener receives cancelled events.
+     *
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param listener Listener to be invoked when event of given EventType is posted.
+     * @return Registration used to unregister the listener.
+     */
+    Registration addListener(EventPriority priority, Consumer<E> listener);
+
+    /**
+     * Registers a new listener with the given priority.
+     * <p>
+     * Listeners registered with {@code receiveCancelled} as false are skipped once a {@link CancellableEvent} has been cancelled.
+     *
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param receiveCancelled Whether the listener should still be invoked for cancelled events.
+     * @param listener Listener to be invoked when event of given EventType is posted.
+     * @return Registration used to unregister the listener.
+     */
+    Registration addListener(EventPriority priority, boolean receiveCancelled, Consumer<E> listener);
+
+    /**
+     * Registers a new filtered listener.
+     * <p>
+     * Listener is registered with {@link EventPriority#NORMAL} priority &#38; receives cancelled events.
+     *
+     * @param filter Filter events must pass for the listener to be invoked.
+     * @param listener Listener to be invoked when event of given EventType is posted &#38; passes the filter.
+     * @return Registration used to unregister the listener.
+     * @see #addListener(EventPriority, boolean, Predicate, Consumer)
+     */
+    Registration addListener(Predicate<? super E> filter, Consumer<E> listener);
+
+    /**
+     * Registers a new filtered listener with the given priority.
+     * <p>
+     * Filtered listeners sharing an equal filter, priority &#38; {@code receiveCancelled} are grouped,
+     * the filter is tested once per post for the whole group, skipping every listener of the group when it fails.<br>
+     * Groups are invoked at the position of their first registered listener, listeners within a group in registration order.
+     *
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param receiveCancelled Whether the listener should still be invoked for cancelled events.
+     * @param filter Filter events must pass for the listener to be invoked, should be shared between listeners wanting the same events.
+     * @param listener Listener to be invoked when event of given EventType is posted &#38; passes the filter.
+     * @return Registration used to unregister the listener.
+     */
+    Registration addListener(EventPriority priority, boolean receiveCancelled, Predicate<? super E> filter, Consumer<E> listener);
+
+    /**
+     * Registers a new keyed listener.
+     * <p>
+     * Listener is registered with {@link EventPriority#NORMAL} priority &#38; receives cancelled events.
+     *
+     * @param key EventKey used to extract keys from posted events.
+     * @param keyValue Key events must have for the listener to be invoked.
+     * @param listener Listener to be invoked when event of given EventType is posted with the given key.
+     * @return Registration used to unregister the listener.
+     * @param <K> Type of key.
+     * @see #addListener(EventPriority, boolean, EventKey, Object, Consumer)
+     */
+    <K> Registration addListener(EventKey<? super E, K> key, K keyValue, Consumer<E> listener);
+
+    /**
+     * Registers a new keyed listener with the given priority.
+     * <p>
+     * Keyed listeners sharing an EventKey, priority &#38; {@code receiveCancelled} are indexed by their key,
+     * the key is extracted once per post &#38; only listeners registered for that key are reached, through a single hash lookup.<br>
+     * Indices are invoked at the position of their first registered listener, listeners within an index in registration order.
+     *
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param receiveCancelled Whether the listener should still be invoked for cancelled events.
+     * @param key EventKey used to extract keys from posted events.
+     * @param keyValue Key events must have for the listener to be invoked.
+     * @param listener Listener to be invoked when event of given EventType is posted with the given key.
+     * @return Registration used to unregister the listener.
+     * @param <K> Type of key.
+     */
+    <K> Registration addListener(EventPriority priority, boolean receiveCancelled, EventKey<? super E, K> key, K keyValue, Consumer<E> listener);
+
+    /**
+     * Registers a new async listener.
+     * <p>
+     * Listener is registered with {@link EventPriority#NORMAL} priority &#38; receives cancelled events.
+     *
+     * @param listener Listener to be invoked off thread when event of given EventType is posted.
+     * @return Registration used to unregister the listener.
+     * @see #addAsyncListener(EventPriority, boolean, Consumer)
+     */
+    Registration addAsyncListener(Consumer<E> listener);
+
+    /**
+     * Registers a new async listener with the given priority.
+     * <p>
+     * Async listeners are invoked on the EventTypes executor, once every synchronous listener has been invoked.<br>
+     * Async listeners of successive posts are invoked one post after another, in priority order, never concurrently.
+     * <p>
+     * Async listeners may still cancel the event, which is only reflected in the result of {@link #postAsync(Object...)}.
+     * <p>
+     * Reusable EventTypes do not support async listeners.
+     *
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param receiveCancelled Whether the listener should still be invoked for cancelled events.
+     * @param listener Listener to be invoked off thread when event of given EventType is posted.
+     * @return Registration used to unregister the listener.
+     * @see EventTypeBuilder#executor(java.util.concurrent.Executor)
+     */
+    Registration addAsyncListener(EventPriority priority, boolean receiveCancelled, Consumer<E> listener);
+
+    /**
+     * Registers a new weakly referenced listener.
+     * <p>
+     * Listener is registered with {@link EventPriority#NORMAL} priority &#38; receives cancelled events.
      *
      * @param listener Listener to be invoked when event of given EventType is posted.
+     * @return Registration used to unregister the listener.
+     * @see #addWeakListener(EventPriority, boolean, Consumer)
      */
-    void addListener(Consumer<E> listener);
+    Registration addWeakListener(Consumer<E> listener);
+
+    /**
+     * Registers a new weakly referenced listener with the given priority.
+     * <p>
+     * The EventType does not keep the listener alive, the caller must hold a strong reference to it for as long as it should be invoked.<br>
+     * Once the listener has been garbage collected it is skipped &#38; removed the next time the listeners of any EventType change.
+     *
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param receiveCancelled Whether the listener should still be invoked for cancelled events.
+     * @param listener Listener to be invoked when event of given EventType is posted.
+     * @return Registration used to unregister the listener.
+     */
+    Registration addWeakListener(EventPriority priority, boolean receiveCancelled, Consumer<E> listener);
 
     /**
      * Unregisters the given event listener.
@@ -27,12 +171,60 @@ public sealed interface EventType<E extends Event> permits EventTypeImpl
      */
     void removeListener(Consumer<E> listener);
 
+    /**
+     * Posts the Event to all registered listeners.
+     * <p>
+     * Arity specialized variant of {@link #post(Object...)} for events constructed without any args.
+     *
+     * @return whether this event was posted successfully, cancelled or passed.
+     * @see EventResult
+     */
+    EventResult<E> post();
+
+    /**
+     * Posts the Event to all registered listeners.
+     * <p>
+     * Arity specialized variant of {@link #post(Object...)}, skips allocating the args array.
+     *
+     * @param eventArg Arg passed along to EventType to construct a new event instance.
+     * @return whether this event was posted successfully, cancelled or passed.
+     * @see EventResult
+     */
+    EventResult<E> post(Object eventArg);
+
+    /**
+     * Posts the Event to all registered listeners.
+     * <p>
+     * Arity specialized variant of {@link #post(Object...)}, skips allocating the args array.
+     *
+     * @param eventArg1 First arg passed along to EventType to construct a new event instance.
+     * @param eventArg2 Second arg passed along to EventType to construct a new event instance.
+     * @return whether this event was posted successfully, cancelled or passed.
+     * @see EventResult
+     */
+    EventResult<E> post(Object eventArg1, Object eventArg2);
+
+    /**
+     * Posts the Event to all registered listeners.
+     * <p>
+     * Arity specialized variant of {@link #post(Object...)}, skips allocating the args array.
+     *
+     * @param eventArg1 First arg passed along to EventType to construct a new event instance.
+     * @param eventArg2 Second arg passed along to EventType to construct a new event instance.
+     * @param eventArg3 Third arg passed along to EventType to construct a new event instance.
+     * @return whether this event was posted successfully, cancelled or passed.
+     * @see EventResult
+     */
+    EventResult<E> post(Object eventArg1, Object eventArg2, Object eventArg3);
+
     /**
      * Posts the Event to all registered listeners.
      * <p>
      * Register a new listener using {@link #addListener(Consumer)}.
      * <p>
      * Returns whether this event was posted successfully, cancelled or passed.
+     * <p>
+     * Events with up to 3 args should prefer the arity specialized overloads, this variant is kept as a fallback.
      *
      * @param eventArgs Args passed along to EventType to construct a new event instance.
      * @return whether this event was posted successfully, cancelled or passed.
@@ -40,6 +232,152 @@ public sealed interface EventType<E extends Event> permits EventTypeImpl
      */
     EventResult<E> post(Object... eventArgs);
 
+    /**
+     * Posts the Event to all registered listeners, returning only the outcome.
+     * <p>
+     * Unlike {@link #post()} no EventResult is constructed, callers only interested in the outcome should prefer this.
+     *
+     * @return {@link EventResult#CANCELLED}, {@link EventResult#SUCCESS} or {@link EventResult#PASS}.
+     */
+    int postForOutcome();
+
+    /**
+     * Posts the Event to all registered listeners, returning only the outcome.
+     * <p>
+     * Unlike {@link #post(Object)} no EventResult is constructed, callers only interested in the outcome should prefer this.
+     *
+     * @param eventArg Arg passed along to EventType to construct a new event instance.
+     * @return {@link EventResult#CANCELLED}, {@link EventResult#SUCCESS} or {@link EventResult#PASS}.
+     */
+    int postForOutcome(Object eventArg);
+
+    /**
+     * Posts the Event to all registered listeners, returning only the outcome.
+     * <p>
+     * Unlike {@link #post(Object, Object)} no EventResult is constructed, callers only interested in the outcome should prefer this.
+     *
+     * @param eventArg1 First arg passed along to EventType to construct a new event instance.
+     * @param eventArg2 Second arg passed along to EventType to construct a new event instance.
+     * @return {@link EventResult#CANCELLED}, {@link EventResult#SUCCESS} or {@link EventResult#PASS}.
+     */
+    int postForOutcome(Object eventArg1, Object eventArg2);
+
+    /**
+     * Posts the Event to all registered listeners, returning only the outcome.
+     * <p>
+     * Unlike {@link #post(Object, Object, Object)} no EventResult is constructed, callers only interested in the outcome should prefer this.
+     *
+     * @param eventArg1 First arg passed along to EventType to construct a new event instance.
+     * @param eventArg2 Second arg passed along to EventType to construct a new event instance.
+     * @param eventArg3 Third arg passed along to EventType to construct a new event instance.
+     * @return {@link EventResult#CANCELLED}, {@link EventResult#SUCCESS} or {@link EventResult#PASS}.
+     */
+    int postForOutcome(Object eventArg1, Object eventArg2, Object eventArg3);
+
+    /**
+     * Posts the Event to all registered listeners, returning only the outcome.
+     * <p>
+     * Unlike {@link #post(Object...)} no EventResult is constructed, callers only interested in the outcome should prefer this.
+     *
+     * @param eventArgs Args passed along to EventType to construct a new event instance.
+     * @return {@link EventResult#CANCELLED}, {@link EventResult#SUCCESS} or {@link EventResult#PASS}.
+     */
+    int postForOutcome(Object... eventArgs);
+
+    /**
+     * Posts the Event to all registered listeners, including async listeners.
+     * <p>
+     * Synchronous listeners are invoked on the calling thread before this returns,
+     * the returned future completes once every async listener has also been invoked.
+     *
+     * @param eventArgs Args passed along to EventType to construct a new event instance.
+     * @return Future completing with whether this event was posted successfully, cancelled or passed.
+     * @see #addAsyncListener(EventPriority, boolean, Consumer)
+     */
+    CompletableFuture<EventResult<E>> postAsync(Object... eventArgs);
+
+    /**
+     * Enables recording of metrics for this EventType, returning the already enabled metrics if any.
+     * <p>
+     * While disabled posting pays for a single null check, while enabled every listener invocation is timed.
+     *
+     * @return Metrics recorded for this EventType.
+     * @see EventMetrics
+     */
+    EventMetrics enableMetrics();
+
+    /**
+     * Disables recording of metrics for this EventType, discarding any recorded metrics.
+     */
+    void disableMetrics();
+
+    /**
+     * @return Metrics recorded for this EventType or null if metrics are disabled.
+     */
+    @Nullable
+    EventMetrics metrics();
+
+    /**
+     * Starts recording every Event posted to this EventType into the given EventJournal, replacing any journal already recorded to.
+     * <p>
+     * While not recording posting pays for a single null check.
+     *
+     * @param journal Journal to record posted Events to.
+     * @throws IllegalStateException If the journal has been closed.
+     * @see EventJournal
+     */
+    void startRecording(EventJournal journal);
+
+    /**
+     * Stops recording Events posted to this EventType.
+     */
+    void stopRecording();
+
+    /**
+     * @return Journal Events posted to this EventType are recorded to or null if not recording.
+     */
+    @Nullable
+    EventJournal journal();
+
+    /**
+     * Constructs a new EventBatch, used to post many Events of this EventType in a single pass.
+     *
+     * @return Newly constructed EventBatch.
+     */
+    EventBatch<E> batch();
+
+    /**
+     * Constructs a new EventCoalescer, only ever flushed manually.
+     * <p>
+     * Events posted to the coalescer are merged by the given key function, only the latest Event per key is posted once flushed.
+     *
+     * @param keyFunction Function returning the key Events are merged by.
+     * @return Newly constructed EventCoalescer.
+     * @see EventCoalescer#flush()
+     */
+    EventCoalescer<E> coalesce(Function<? super E, ?> keyFunction);
+
+    /**
+     * Constructs a new EventCoalescer, flushing itself once the given window has passed since the first pending Event was posted.
+     *
+     * @param keyFunction Function returning the key Events are merged by.
+     * @param window Window after which pending Events are flushed.
+     * @return Newly constructed EventCoalescer.
+     * @see #coalesce(Function)
+     */
+    EventCoalescer<E> coalesce(Function<? super E, ?> keyFunction, Duration window);
+
+    /**
+     * Posts an Event for each of the given args in a single pass.
+     * <p>
+     * For EventTypes taking a single arg each element is that arg, for all other EventTypes each element must be an {@code Object[]} of args.
+     *
+     * @param eventArgs Args passed along to EventType to construct each new event instance.
+     * @return Indices of all cancelled Events, in iteration order of the given args.
+     * @see #batch()
+     */
+    BitSet postAll(Collection<?> eventArgs);
+
     /**
      * Constructs a new Event instance.
      * <p>
@@ -60,6 +398,11 @@ public sealed interface EventType<E extends Event> permits EventTypeImpl
 
     /**
      * Registers a new EventType, Only 1 EventType may exist per Event.
+     * <p>
+     * The matching constructor is resolved to a factory once here, rather than reflectively on every post.
+     * <p>
+     * Listeners registered to an EventType also receive Events posted to the EventTypes of its subclasses.<br>
+     * Interfaces &#38; abstract classes may also be registered, these EventTypes can be listened to but never posted.
      *
      * @param eventType Type of Event to create the EventType for.
      * @param argTypes Argument types to be used to look up a matching constructor.
@@ -68,8 +411,65 @@ public sealed interface EventType<E extends Event> permits EventTypeImpl
      */
     static <E extends Event> EventType<E> register(Class<E> eventType, Class<?>... argTypes)
     {
-        var instance = new EventTypeImpl<>(eventType, argTypes);
-        if(EventTypeImpl.EVENT_TYPES.put(eventType, instance) != null) throw new IllegalStateException("Duplicate event type registration: '%s'".formatted(eventType.getName()));
-        return instance;
+        return builder(eventType, argTypes).register();
+    }
+
+    /**
+     * Constructs a new EventTypeBuilder, used to register EventTypes with none default options.
+     *
+     * @param eventType Type of Event to create the EventType for.
+     * @param argTypes Argument types to be used to look up a matching constructor.
+     * @return Newly constructed EventTypeBuilder.
+     * @param <E> Type of Event for this EventType.
+     */
+    static <E extends Event> EventTypeBuilder<E> builder(Class<E> eventType, Class<?>... argTypes)
+    {
+        return new EventTypeBuilderImpl<>(eventType, argTypes);
+    }
+
+    /**
+     * Looks up the EventType registered for the given Event class.
+     *
+     * @param eventType Type of Event to look up the EventType for.
+     * @return EventType registered for the given Event class or null if none is registered.
+     * @param <E> Type of Event for this EventType.
+     */
+    @Nullable
+    static <E extends Event> EventType<E> lookup(Class<E> eventType)
+    {
+        return EventTypeImpl.lookup(eventType);
+    }
+
+    /**
+     * Registers every {@link SubscribeEvent} annotated method of the given subscriber as a listener.
+     * <p>
+     * Passing a Class registers its static methods, passing any other object registers its instance methods,
+     * including those inherited from its superclasses.
+     * <p>
+     * Methods are bound through generated Consumers, invoking them costs the same as invoking a hand written lambda.<br>
+     * Methods of classes in other modules which do not open their package to this module are invoked through method handles instead,
+     * in which case only public methods can be subscribed.<br>
+     * Classes are scanned once, subscribing further instances of the same class only binds the cached methods.
+     * <p>
+     * Registered listeners strongly reference the subscriber, keeping it alive until it is passed to {@link #unsubscribe(Object)}.
+     *
+     * @param subscriber Object or Class to register the annotated methods of.
+     * @see SubscribeEvent
+     */
+    static void subscribe(Object subscriber)
+    {
+        EventSubscribers.subscribe(subscriber);
+    }
+
+    /**
+     * Unregisters every listener previously registered by {@link #subscribe(Object)} for the given subscriber.
+     * <p>
+     * Required to release subscribed objects, their listeners are never removed otherwise.
+     *
+     * @param subscriber Object or Class to unregister the annotated methods of.
+     */
+    static void unsubscribe(Object subscriber)
+    {
+        EventSubscribers.unsubscribe(subscriber);
     }
 }
@@ -0,0 +1,76 @@
+package xyz.apex.utils.events;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * EventTypeBuilder - Used to build &#38; register EventTypes with none default options.
+ *
+ * @param <E> Type of Event the built EventType is for.
+ */
+public sealed interface EventTypeBuilder<E extends Event> permits EventTypeBuilderImpl
+{
+    /**
+     * Marks the EventType as reusable.
+     * <p>
+     * Reusable EventTypes keep a pooled Event instance per thread, which is reset &#38; refilled on every post.<br>
+     * Successful &#38; cancelled EventResults are cached alongside the pooled instance, posting allocates nothing.
+     * <p>
+     * The Event class must implement {@link ReusableEvent}.
+     *
+     * @return This EventTypeBuilder.
+     * @see ReusableEvent
+     */
+    EventTypeBuilder<E> reusable();
+
+    /**
+     * Marks the EventType as stopping on cancel.
+     * <p>
+     * By default every listener is invoked, even those following the listener which cancelled the event.<br>
+     * EventTypes stopping on cancel skip all remaining listeners the moment the event is cancelled,
+     * including those registered to receive cancelled events.
+     * <p>
+     * The Event class must implement {@link CancellableEvent}.
+     *
+     * @return This EventTypeBuilder.
+     */
+    EventTypeBuilder<E> stopOnCancel();
+
+    /**
+     * Sets the Executor async listeners are invoked on.
+     * <p>
+     * Defaults to a virtual thread per task executor when running on a runtime supporting them,
+     * falling back to a shared cached pool of daemon threads otherwise.
+     *
+     * @param executor Executor async listeners are invoked on.
+     * @return This EventTypeBuilder.
+     * @see EventType#addAsyncListener(EventPriority, boolean, Consumer)
+     */
+    EventTypeBuilder<E> executor(Executor executor);
+
+    /**
+     * Sets how errors thrown by listeners are handled.
+     * <p>
+     * Defaults to {@link ErrorPolicy#PROPAGATE}, {@link ErrorPolicy#DISABLE} removes listeners after their first failure.
+     *
+     * @param errorPolicy Policy applied to errors thrown by listeners.
+     * @return This EventTypeBuilder.
+     * @see ErrorPolicy
+     */
+    EventTypeBuilder<E> errorPolicy(ErrorPolicy errorPolicy);
+
+    /**
+     * Sets the error policy to {@link ErrorPolicy#DISABLE}, removing listeners once they have failed the given number of times.
+     *
+     * @param maxFailures Number of failures after which a listener is removed.
+     * @return This EventTypeBuilder.
+     */
+    EventTypeBuilder<E> disableAfter(int maxFailures);
+
+    /**
+     * Builds &#38; registers the EventType, Only 1 EventType may exist per Event.
+     *
+     * @return Newly registered EventType.
+     */
+    EventType<E> register();
+}
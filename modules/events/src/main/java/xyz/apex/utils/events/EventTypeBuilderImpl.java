@@ -0,0 +1,69 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+
+final class EventTypeBuilderImpl<E extends Event> implements EventTypeBuilder<E>
+{
+    final Class<E> classType;
+    final Class<?>[] argTypes;
+    boolean reusable = false;
+    boolean stopOnCancel = false;
+    @Nullable Executor executor = null;
+    ErrorPolicy errorPolicy = ErrorPolicy.PROPAGATE;
+    int maxFailures = 1;
+
+    EventTypeBuilderImpl(Class<E> classType, Class<?>... argTypes)
+    {
+        this.classType = classType;
+        this.argTypes = argTypes;
+    }
+
+    @Override
+    public EventTypeBuilder<E> reusable()
+    {
+        if(!ReusableEvent.class.isAssignableFrom(classType)) throw new IllegalStateException("Reusable event types must implement ReusableEvent: '%s'".formatted(classType.getName()));
+        reusable = true;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> stopOnCancel()
+    {
+        if(!CancellableEvent.class.isAssignableFrom(classType)) throw new IllegalStateException("Only cancellable event types may stop on cancel: '%s'".formatted(classType.getName()));
+        stopOnCancel = true;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> executor(Executor executor)
+    {
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> errorPolicy(ErrorPolicy errorPolicy)
+    {
+        this.errorPolicy = errorPolicy;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> disableAfter(int maxFailures)
+    {
+        if(maxFailures < 1) throw new IllegalArgumentException("Max failures must be at least 1: %d".formatted(maxFailures));
+        errorPolicy = ErrorPolicy.DISABLE;
+        this.maxFailures = maxFailures;
+        return this;
+    }
+
+    @Override
+    public EventType<E> register()
+    {
+        var instance = new EventTypeImpl<>(this);
+        EventTypeImpl.register(instance);
+        return instance;
+    }
+}
@@ -2,84 +2,622 @@ package xyz.apex.utils.events;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 import xyz.apex.utils.core.ApexUtils;
+import xyz.apex.utils.events.EventResult.ListenerFailure;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 final class EventTypeImpl<E extends Event> implements EventType<E>
 {
-    static final Map<Class<?>, EventType<?>> EVENT_TYPES = Maps.newHashMap();
+    static final Map<Class<?>, EventTypeImpl<?>> EVENT_TYPES = Maps.newConcurrentMap();
+    private static final ListenerEntry<?>[] NO_LISTENERS = new ListenerEntry<?>[0];
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final Comparator<ListenerEntry<?>> LISTENER_ORDER = Comparator.<ListenerEntry<?>, EventPriority>comparing(entry -> entry.priority).thenComparingLong(entry -> entry.order);
+    // guards registration and every listener change, as changes to one event type rebuild the snapshots of its subtypes
+    private static final Object LOCK = new Object();
+    private static long nextOrder = 0L;
 
     private final Class<E> classType;
-    private final Constructor<E> constructor;
+    // resolved once here, rather than type checking the event on every post
+    private final boolean cancellable;
+    // cancellable event types only, stop invoking listeners as soon as the event is cancelled
+    private final boolean stopOnCancel;
+    private final ErrorPolicy errorPolicy;
+    // error policy DISABLE only, number of failures after which a listener is removed
+    private final int maxFailures;
+    private final int arity;
+    // constructor adapted to (Object, ...)Object, used by the arity specialized posts
+    // for reusable event types this is the no-arg constructor, used to create the pooled instances
+    private final MethodHandle factory;
+    // constructor adapted to (Object[])Object, used by the varargs fallback
+    private final MethodHandle spreadFactory;
+    // reusable event types only, init method adapted to (Object, Object, ...)void & (Object, Object[])void
+    // null for none reusable event types and event types without args
+    @Nullable private final MethodHandle initializer;
+    @Nullable private final MethodHandle spreadInitializer;
+    // reusable event types only, per thread pooled event instance
+    @Nullable private final ThreadLocal<PooledEvent<E>> pool;
+    final EventResult<E> passResult = new EventResultImpl<>(this, null, EventResult.PASS);
+    // also used by coalescers, to flush their windows
+    final Executor executor;
+    // every listener registered directly to this event type, sorted by priority, only accessed while holding the lock
+    private ListenerEntry<E>[] registered = noListeners();
+    // registered event types of every superclass and interface of, or class extending, this event type
+    // only accessed while holding the lock
+    private final List<EventTypeImpl<?>> supertypes = Lists.newArrayList();
+    private final List<EventTypeImpl<?>> subtypes = Lists.newArrayList();
+    // copy-on-write snapshot, only ever replaced (never mutated) while holding the lock
+    // posts read it once and loop over stable arrays, so listeners may be (un)registered mid post
+    // flattened with the listeners of every supertype and kept sorted by priority, so posts never need to walk the hierarchy or sort
     @VisibleForTesting
-    public final List<Consumer<E>> listeners = Lists.newLinkedList();
+    volatile ListenerSnapshot<E> listeners = ListenerSnapshot.empty();
+    // tail of the async listener chain, async listeners of successive posts run one after another
+    private final Object asyncLock = new Object();
+    private CompletableFuture<?> asyncTail = CompletableFuture.completedFuture(null);
+    // null unless metrics are enabled, posts check this once and take the instrumented path only when set
+    @Nullable private volatile EventMetricsImpl metrics = null;
+    // null unless recording, posts check this once and take the recording path only when set
+    @Nullable private volatile EventJournalImpl journal = null;
 
-    EventTypeImpl(Class<E> classType, Class<?>... argTypes)
+    EventTypeImpl(EventTypeBuilderImpl<E> builder)
     {
-        this.classType = classType;
+        classType = builder.classType;
+        cancellable = CancellableEvent.class.isAssignableFrom(classType);
+        stopOnCancel = builder.stopOnCancel;
+        errorPolicy = builder.errorPolicy;
+        maxFailures = builder.maxFailures;
+        executor = builder.executor == null ? EventExecutors.DEFAULT : builder.executor;
+        var argTypes = builder.argTypes;
+        arity = argTypes.length;
 
         try
         {
-            constructor = classType.getConstructor(argTypes);
+            if(classType.isInterface() || Modifier.isAbstract(classType.getModifiers()))
+            {
+                // abstract event types may only be listened to, receiving events posted to their subtypes
+                var notPostable = MethodHandles.lookup().findStatic(EventTypeImpl.class, "notPostable", MethodType.methodType(Object.class, Class.class)).bindTo(classType);
+                factory = MethodHandles.dropArguments(notPostable, 0, Collections.nCopies(arity, Object.class));
+                spreadFactory = factory.asSpreader(Object[].class, arity);
+                initializer = null;
+                spreadInitializer = null;
+                pool = null;
+            }
+            else if(builder.reusable)
+            {
+                var constructor = MethodHandles.publicLookup().unreflectConstructor(classType.getConstructor());
+                factory = constructor.asType(constructor.type().generic());
+                spreadFactory = factory.asSpreader(Object[].class, 0);
+
+                if(arity == 0)
+                {
+                    initializer = null;
+                    spreadInitializer = null;
+                }
+                else
+                {
+                    var init = MethodHandles.publicLookup().findVirtual(classType, ReusableEvent.INIT_METHOD, MethodType.methodType(void.class, argTypes));
+                    initializer = init.asType(init.type().generic().changeReturnType(void.class));
+                    spreadInitializer = initializer.asSpreader(Object[].class, arity);
+                }
+
+                pool = ThreadLocal.withInitial(() -> new PooledEvent<>(this, newPooledInstance()));
+            }
+            else
+            {
+                var constructor = MethodHandles.publicLookup().unreflectConstructor(classType.getConstructor(argTypes));
+                factory = constructor.asType(constructor.type().generic());
+                spreadFactory = factory.asSpreader(Object[].class, arity);
+                initializer = null;
+                spreadInitializer = null;
+                pool = null;
+            }
         }
-        catch(NoSuchMethodException e)
+        catch(NoSuchMethodException | IllegalAccessException e)
         {
             throw new RuntimeException("Failed to find matching constructor for event class: '%s' (%s')".formatted(classType.getName(), Arrays.toString(argTypes)), e);
         }
     }
 
     @Override
-    public void addListener(Consumer<E> listener)
+    public Registration addListener(Consumer<E> listener)
+    {
+        return addListener(EventPriority.NORMAL, true, listener);
+    }
+
+    @Override
+    public Registration addListener(EventPriority priority, Consumer<E> listener)
+    {
+        return addListener(priority, true, listener);
+    }
+
+    @Override
+    public Registration addListener(EventPriority priority, boolean receiveCancelled, Consumer<E> listener)
+    {
+        return register(listener, priority, receiveCancelled, false);
+    }
+
+    @Override
+    public Registration addListener(Predicate<? super E> filter, Consumer<E> listener)
+    {
+        return addListener(EventPriority.NORMAL, true, filter, listener);
+    }
+
+    @Override
+    public Registration addListener(EventPriority priority, boolean receiveCancelled, Predicate<? super E> filter, Consumer<E> listener)
+    {
+        return register(listener, priority, receiveCancelled, false, filter, null, null);
+    }
+
+    @Override
+    public <K> Registration addListener(EventKey<? super E, K> key, K keyValue, Consumer<E> listener)
+    {
+        return addListener(EventPriority.NORMAL, true, key, keyValue, listener);
+    }
+
+    @Override
+    public <K> Registration addListener(EventPriority priority, boolean receiveCancelled, EventKey<? super E, K> key, K keyValue, Consumer<E> listener)
+    {
+        return register(listener, priority, receiveCancelled, false, null, key, keyValue);
+    }
+
+    @Override
+    public Registration addAsyncListener(Consumer<E> listener)
+    {
+        return addAsyncListener(EventPriority.NORMAL, true, listener);
+    }
+
+    @Override
+    public Registration addAsyncListener(EventPriority priority, boolean receiveCancelled, Consumer<E> listener)
+    {
+        return register(listener, priority, receiveCancelled, true);
+    }
+
+    @Override
+    public Registration addWeakListener(Consumer<E> listener)
+    {
+        return addWeakListener(EventPriority.NORMAL, true, listener);
+    }
+
+    @Override
+    public Registration addWeakListener(EventPriority priority, boolean receiveCancelled, Consumer<E> listener)
     {
-        listeners.add(listener);
+        return register(new WeakListener<>(this, listener), priority, receiveCancelled, false);
     }
 
     @Override
     public void removeListener(Consumer<E> listener)
     {
-        listeners.remove(listener);
+        synchronized(LOCK)
+        {
+            purgeCollected();
+            var index = indexOf(registered, listener);
+            if(index != -1) remove(index);
+        }
+    }
+
+    // removes the exact entry, used by closed registrations & to disable failing listeners
+    void unregister(ListenerEntry<E> entry)
+    {
+        synchronized(LOCK)
+        {
+            purgeCollected();
+            var current = registered;
+
+            for(var i = 0; i < current.length; i++)
+            {
+                if(current[i] != entry) continue;
+                remove(i);
+                return;
+            }
+        }
+    }
+
+    // only invoked while holding the lock
+    private void remove(int index)
+    {
+        var current = registered;
+        current[index].removed = true;
+
+        if(current.length == 1) registered = noListeners();
+        else
+        {
+            var updated = Arrays.copyOf(current, current.length - 1);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+            registered = updated;
+        }
+
+        invalidate();
+    }
+
+    private Registration register(Consumer<E> listener, EventPriority priority, boolean receiveCancelled, boolean async)
+    {
+        return register(listener, priority, receiveCancelled, async, null, null, null);
+    }
+
+    private Registration register(Consumer<E> listener, EventPriority priority, boolean receiveCancelled, boolean async, @Nullable Predicate<? super E> filter, @Nullable EventKey<? super E, ?> key, @Nullable Object keyValue)
+    {
+        synchronized(LOCK)
+        {
+            // pooled instances are reused by the next post, while async listeners may still be using them
+            if(async && (pool != null || subtypes.stream().anyMatch(subtype -> subtype.pool != null))) throw new IllegalStateException("Reusable event types do not support async listeners: '%s'".formatted(classType.getName()));
+            purgeCollected();
+
+            var current = registered;
+            // insert after every listener of the same or higher priority
+            var index = current.length;
+            while(index > 0 && current[index - 1].priority.compareTo(priority) > 0) index--;
+
+            var entry = new ListenerEntry<>(this, listener, priority, receiveCancelled, async, nextOrder++, filter, key, keyValue);
+            var updated = Arrays.copyOf(current, current.length + 1);
+            System.arraycopy(current, index, updated, index + 1, current.length - index);
+            updated[index] = entry;
+            registered = updated;
+            invalidate();
+            return entry;
+        }
+    }
+
+    // rebuilds the snapshot of this event type and every subtype inheriting its listeners
+    // collected weakly referenced listeners are purged here, posts merely skip them until then
+    private void invalidate()
+    {
+        registered = withoutStale(registered);
+        rebuild();
+        subtypes.forEach(EventTypeImpl::rebuild);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuild()
+    {
+        // latencies of removed or collected listeners are never recorded again
+        var metrics = this.metrics;
+        if(metrics != null) metrics.prune();
+
+        if(supertypes.isEmpty())
+        {
+            listeners = ListenerSnapshot.of(group(withoutStale(registered)));
+            return;
+        }
+
+        // copied up front, sorting below must never reorder the registered listeners in place
+        var merged = registered.clone();
+
+        for(var supertype : supertypes)
+        {
+            // supertype listeners accept a supertype of E, so are safe to invoke with E
+            var inherited = (ListenerEntry<E>[]) supertype.registered;
+            if(inherited.length == 0) continue;
+            var offset = merged.length;
+            merged = Arrays.copyOf(merged, offset + inherited.length);
+            System.arraycopy(inherited, 0, merged, offset, inherited.length);
+        }
+
+        merged = withoutStale(merged);
+        Arrays.sort(merged, LISTENER_ORDER);
+        listeners = ListenerSnapshot.of(group(merged));
+    }
+
+    // collapses filtered & keyed listeners into a single dispatch entry per group, positioned at the first listener of the group
+    // posts then test each filter, or look up each key, once per group rather than once per listener
+    @SuppressWarnings("unchecked")
+    private ListenerEntry<E>[] group(ListenerEntry<E>[] listeners)
+    {
+        if(Arrays.stream(listeners).noneMatch(ListenerEntry::isGrouped)) return listeners;
+        // each slot is either an ungrouped entry or the members of a group
+        var slots = Lists.newArrayList();
+        var groups = Maps.<List<Object>, List<ListenerEntry<E>>>newHashMap();
+
+        for(var entry : listeners)
+        {
+            if(!entry.isGrouped())
+            {
+                slots.add(entry);
+                continue;
+            }
+
+            var groupKey = Arrays.asList(entry.priority, entry.receiveCancelled, entry.async, entry.filter, entry.key);
+
+            groups.computeIfAbsent(groupKey, ignored -> {
+                var members = Lists.<ListenerEntry<E>>newArrayList();
+                slots.add(members);
+                return members;
+            }).add(entry);
+        }
+
+        return slots.stream().map(slot -> slot instanceof ListenerEntry<?> entry ? (ListenerEntry<E>) entry : groupEntry((List<ListenerEntry<E>>) slot)).toArray(ListenerEntry[]::new);
+    }
+
+    @SuppressWarnings({ "unchecked", "DataFlowIssue" })
+    private ListenerEntry<E> groupEntry(List<ListenerEntry<E>> members)
+    {
+        var first = members.get(0);
+        Consumer<E> dispatcher;
+
+        if(first.filter != null) dispatcher = new FilterGroup(first.filter, members.toArray(ListenerEntry[]::new));
+        else
+        {
+            var index = Maps.<Object, List<ListenerEntry<E>>>newHashMap();
+            members.forEach(member -> index.computeIfAbsent(member.keyValue, ignored -> Lists.newArrayList()).add(member));
+            var indexed = Maps.<Object, ListenerEntry<E>[]>newHashMapWithExpectedSize(index.size());
+            index.forEach((keyValue, keyed) -> indexed.put(keyValue, keyed.toArray(ListenerEntry[]::new)));
+            dispatcher = new KeyIndex((EventKey<? super E, ?>) first.key, indexed);
+        }
+
+        return new ListenerEntry<>(this, dispatcher, first.priority, first.receiveCancelled, first.async, first.order, members.toArray(ListenerEntry[]::new));
+    }
+
+    @Override
+    public EventResult<E> post()
+    {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, NO_ARGS);
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return pass();
+        return dispatch(listeners, construct());
+    }
+
+    @Override
+    public EventResult<E> post(Object eventArg)
+    {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, new Object[] { eventArg });
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return pass();
+        return dispatch(listeners, construct(eventArg));
+    }
+
+    @Override
+    public EventResult<E> post(Object eventArg1, Object eventArg2)
+    {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, new Object[] { eventArg1, eventArg2 });
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return pass();
+        return dispatch(listeners, construct(eventArg1, eventArg2));
+    }
+
+    @Override
+    public EventResult<E> post(Object eventArg1, Object eventArg2, Object eventArg3)
+    {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, new Object[] { eventArg1, eventArg2, eventArg3 });
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return pass();
+        return dispatch(listeners, construct(eventArg1, eventArg2, eventArg3));
     }
 
     @Override
     public EventResult<E> post(Object... eventArgs)
     {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, eventArgs);
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return pass();
+        return dispatch(listeners, construct(eventArgs));
+    }
+
+    @Override
+    public int postForOutcome()
+    {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, NO_ARGS).getAsInt();
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return passOutcome();
+        return dispatchForOutcome(listeners, construct());
+    }
+
+    @Override
+    public int postForOutcome(Object eventArg)
+    {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, new Object[] { eventArg }).getAsInt();
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return passOutcome();
+        return dispatchForOutcome(listeners, construct(eventArg));
+    }
+
+    @Override
+    public int postForOutcome(Object eventArg1, Object eventArg2)
+    {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, new Object[] { eventArg1, eventArg2 }).getAsInt();
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return passOutcome();
+        return dispatchForOutcome(listeners, construct(eventArg1, eventArg2));
+    }
+
+    @Override
+    public int postForOutcome(Object eventArg1, Object eventArg2, Object eventArg3)
+    {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, new Object[] { eventArg1, eventArg2, eventArg3 }).getAsInt();
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return passOutcome();
+        return dispatchForOutcome(listeners, construct(eventArg1, eventArg2, eventArg3));
+    }
+
+    @Override
+    public int postForOutcome(Object... eventArgs)
+    {
+        var journal = this.journal;
+        if(journal != null) return recordPost(journal, eventArgs).getAsInt();
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return passOutcome();
+        return dispatchForOutcome(listeners, construct(eventArgs));
+    }
+
+    @Override
+    public CompletableFuture<EventResult<E>> postAsync(Object... eventArgs)
+    {
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return CompletableFuture.completedFuture(pass());
+        var event = construct(eventArgs);
+        int outcome;
+        List<ListenerFailure> failures = List.of();
+
         try
         {
-            if(listeners.isEmpty()) return EventResult.pass(this);
-            var event = newInstance(eventArgs);
+            outcome = invoke(listeners.sync, event, false);
+        }
+        catch(ListenerFailures e)
+        {
+            outcome = e.outcome;
+            failures = e.failures;
+        }
 
-            for(var listener : listeners)
-            {
-                listener.accept(event);
-            }
+        if(!hasAsyncWork(listeners, outcome)) return CompletableFuture.completedFuture(result(event, outcome, failures));
+        var future = new CompletableFuture<EventResult<E>>();
+        dispatchAsync(listeners.async, event, future, failures);
+        return future;
+    }
 
-            if(wasCancelled(event)) return EventResult.cancelled(this, event);
-            return EventResult.success(this, event);
+    @Override
+    public EventMetrics enableMetrics()
+    {
+        synchronized(LOCK)
+        {
+            var metrics = this.metrics;
+            if(metrics == null) this.metrics = metrics = new EventMetricsImpl(this);
+            return metrics;
         }
-        catch(Throwable e)
+    }
+
+    @Override
+    public void disableMetrics()
+    {
+        metrics = null;
+    }
+
+    @Nullable
+    @Override
+    public EventMetrics metrics()
+    {
+        return metrics;
+    }
+
+    @Override
+    public void startRecording(EventJournal journal)
+    {
+        var impl = (EventJournalImpl) journal;
+
+        synchronized(LOCK)
+        {
+            impl.attach(this);
+            var previous = this.journal;
+            this.journal = impl;
+            if(previous != null && previous != impl) previous.detach(this);
+        }
+    }
+
+    @Override
+    public void stopRecording()
+    {
+        synchronized(LOCK)
+        {
+            var previous = journal;
+            journal = null;
+            if(previous != null) previous.detach(this);
+        }
+    }
+
+    // stops recording only if still recording to the given journal, used by journals as they are closed
+    void stopRecording(EventJournalImpl journal)
+    {
+        synchronized(LOCK)
         {
-            ApexUtils.LOGGER.error("Error occurred while posting '{}'", this);
-            throw e;
+            if(this.journal == journal) this.journal = null;
         }
     }
 
+    @Nullable
+    @Override
+    public EventJournal journal()
+    {
+        return journal;
+    }
+
+    @Override
+    public EventBatch<E> batch()
+    {
+        return new EventBatchImpl<>(this);
+    }
+
+    @Override
+    public EventCoalescer<E> coalesce(Function<? super E, ?> keyFunction)
+    {
+        return new EventCoalescerImpl<>(this, keyFunction, null);
+    }
+
+    @Override
+    public EventCoalescer<E> coalesce(Function<? super E, ?> keyFunction, Duration window)
+    {
+        return new EventCoalescerImpl<>(this, keyFunction, window);
+    }
+
+    @Override
+    public BitSet postAll(Collection<?> eventArgs)
+    {
+        var batch = batch();
+        for(var args : eventArgs) batch.add(arity == 1 ? new Object[] { args } : (Object[]) args);
+        return batch.post();
+    }
+
+    private EventResult<E> recordPost(EventJournalImpl journal, Object[] args)
+    {
+        var codecTypes = journal.codecTypes(args);
+        var timestamp = journal.timestamp();
+        var listeners = this.listeners;
+        var result = listeners.isEmpty ? pass() : dispatch(listeners, construct(args));
+        journal.append(this, timestamp, codecTypes, args, result.getAsInt());
+        return result;
+    }
+
+    // posts an already constructed event, used by QueuedEventBus which constructs events on the enqueuing thread
+    EventResult<E> postEvent(E event)
+    {
+        var listeners = this.listeners;
+        if(listeners.isEmpty) return pass();
+        return dispatch(listeners, event);
+    }
+
+    @SuppressWarnings({ "unchecked", "DataFlowIssue" })
     @Override
     public E newInstance(Object... args)
     {
+        // always a fresh instance, pooled instances are only ever handed out while posting
+        checkArity(args.length);
+
         try
         {
-            return constructor.newInstance(args);
+            if(pool == null) return (E) (Object) spreadFactory.invokeExact(args);
+            var event = newPooledInstance();
+            ((ReusableEvent) event).reset();
+            if(spreadInitializer != null) spreadInitializer.invokeExact((Object) event, args);
+            return event;
         }
-        catch(InvocationTargetException | InstantiationException | IllegalAccessException e)
+        catch(Throwable e)
         {
-            throw new RuntimeException("Failed to construct new event instance for event type: '%s'".formatted(classType.getName()), e);
+            throw constructionFailed(e);
         }
     }
 
@@ -109,8 +647,632 @@ final class EventTypeImpl<E extends Event> implements EventType<E>
         return "EventType[%s]".formatted(classType.getName());
     }
 
-    private static <E extends Event> boolean wasCancelled(E event)
+    private EventResult<E> dispatch(ListenerSnapshot<E> listeners, E event)
     {
-        return event instanceof CancellableEvent cancellable && cancellable.wasCancelled();
+        int outcome;
+        List<ListenerFailure> failures = List.of();
+
+        try
+        {
+            outcome = invoke(listeners.sync, event, false);
+        }
+        catch(ListenerFailures e)
+        {
+            outcome = e.outcome;
+            failures = e.failures;
+        }
+
+        // async listeners can not affect the outcome of synchronous posts
+        if(hasAsyncWork(listeners, outcome)) dispatchAsync(listeners.async, event, null, List.of());
+        return result(event, outcome, failures);
+    }
+
+    private int dispatchForOutcome(ListenerSnapshot<E> listeners, E event)
+    {
+        int outcome;
+
+        try
+        {
+            outcome = invoke(listeners.sync, event, false);
+        }
+        catch(ListenerFailures e)
+        {
+            // already logged, outcome only posts have no result to report failures through
+            outcome = e.outcome;
+        }
+
+        if(hasAsyncWork(listeners, outcome)) dispatchAsync(listeners.async, event, null, List.of());
+        return outcome;
+    }
+
+    private boolean hasAsyncWork(ListenerSnapshot<E> listeners, int outcome)
+    {
+        return listeners.async.length > 0 && !(stopOnCancel && outcome == EventResult.CANCELLED);
+    }
+
+    // syncFailures are those of the synchronous listeners, reported alongside any async failures
+    private void dispatchAsync(ListenerEntry<E>[] listeners, E event, @Nullable CompletableFuture<EventResult<E>> future, List<ListenerFailure> syncFailures)
+    {
+        synchronized(asyncLock)
+        {
+            // chain onto the previous post, regardless of how it completed, keeping async listeners in post order
+            asyncTail = asyncTail.handleAsync((ignored, ignoredError) -> {
+                try
+                {
+                    var outcome = invoke(listeners, event, true);
+                    if(future != null) future.complete(result(event, outcome, syncFailures));
+                }
+                catch(ListenerFailures e)
+                {
+                    if(future != null) future.complete(result(event, e.outcome, syncFailures.isEmpty() ? e.failures : Stream.concat(syncFailures.stream(), e.failures.stream()).toList()));
+                }
+                catch(Throwable e)
+                {
+                    if(future != null) future.completeExceptionally(e);
+                }
+
+                return null;
+            }, executor);
+        }
+    }
+
+    // throws ListenerFailures once every listener has been invoked, if any listener failed under an isolating error policy
+    private int invoke(ListenerEntry<E>[] listeners, E event, boolean async)
+    {
+        try
+        {
+            var metrics = this.metrics;
+            if(metrics != null) return invokeInstrumented(metrics, listeners, event, async);
+            List<ListenerFailure> failures = null;
+            var i = 0;
+
+            // catch sits outside the loop, keeping the loop itself free of exception handling
+            // isolated failures resume the loop from the listener following the one which failed
+            while(true)
+            {
+                try
+                {
+                    for(; i < listeners.length; i++)
+                    {
+                        var entry = listeners[i];
+                        // skip listeners not wanting cancelled events the moment the event is cancelled
+                        if(cancellable && !entry.receiveCancelled && ((CancellableEvent) event).wasCancelled()) continue;
+                        entry.listener.accept(event);
+                        if(stopOnCancel && ((CancellableEvent) event).wasCancelled()) break;
+                    }
+
+                    break;
+                }
+                catch(Throwable e)
+                {
+                    if(errorPolicy == ErrorPolicy.PROPAGATE)
+                    {
+                        ApexUtils.LOGGER.error("Error occurred while posting '{}'", this);
+                        throw e;
+                    }
+
+                    if(failures == null) failures = Lists.newArrayList();
+                    failures.addAll(isolate(listeners[i++], e));
+                }
+            }
+
+            return outcome(event, failures);
+        }
+        finally
+        {
+            release(event);
+        }
+    }
+
+    // same as the loop in invoke, timing every listener
+    // async invocations only record latencies, their post was already counted by the synchronous invocation
+    private int invokeInstrumented(EventMetricsImpl metrics, ListenerEntry<E>[] listeners, E event, boolean async)
+    {
+        List<ListenerFailure> failures = null;
+        var i = 0;
+
+        while(true)
+        {
+            try
+            {
+                for(; i < listeners.length; i++)
+                {
+                    var entry = listeners[i];
+                    if(cancellable && !entry.receiveCancelled && ((CancellableEvent) event).wasCancelled()) continue;
+                    // groups time each of their members
+                    if(entry.members != null) entry.listener.accept(event);
+                    else invokeTimed(metrics, entry, event);
+
+                    if(stopOnCancel && ((CancellableEvent) event).wasCancelled()) break;
+                }
+
+                break;
+            }
+            catch(Throwable e)
+            {
+                if(errorPolicy == ErrorPolicy.PROPAGATE)
+                {
+                    ApexUtils.LOGGER.error("Error occurred while posting '{}'", this);
+                    throw e;
+                }
+
+                if(failures == null) failures = Lists.newArrayList();
+                failures.addAll(isolate(listeners[i++], e));
+            }
+        }
+
+        if(!async) metrics.recordOutcome(outcome(event));
+        return outcome(event, failures);
+    }
+
+    // logs the error of a failed listener, removing the listener once it has failed too many times
+    // listener groups isolate failures of their own members, passing them along as ListenerFailures
+    private List<ListenerFailure> isolate(ListenerEntry<E> entry, Throwable e)
+    {
+        if(e instanceof ListenerFailures grouped) return grouped.failures;
+        ApexUtils.LOGGER.error("Listener failed while posting '{}'", this, e);
+        // shared filters & key functions of groups fail on behalf of every member, the synthetic group entry itself is never registered
+        if(entry.members != null) return Arrays.stream(entry.members).map(member -> fail(member, e)).toList();
+        return List.of(fail(entry, e));
+    }
+
+    private ListenerFailure fail(ListenerEntry<E> entry, Throwable e)
+    {
+        // exactly one thread observes the failure count reaching the limit
+        if(errorPolicy == ErrorPolicy.DISABLE && entry.failures.incrementAndGet() == maxFailures)
+        {
+            ApexUtils.LOGGER.warn("Disabling listener of '{}' after {} failures", this, maxFailures);
+            entry.close();
+        }
+
+        return new ListenerFailure(entry.listener, e);
+    }
+
+    // invokes the members of a listener group, same as the loop in invoke
+    // throws ListenerFailures once every member has been invoked, if any member failed under an isolating error policy
+    private void invokeGroup(ListenerEntry<E>[] members, E event)
+    {
+        var metrics = this.metrics;
+        List<ListenerFailure> failures = null;
+        var i = 0;
+
+        while(true)
+        {
+            try
+            {
+                for(; i < members.length; i++)
+                {
+                    var entry = members[i];
+                    // members share receiveCancelled, once cancelled none of the remaining members want the event
+                    if(cancellable && !entry.receiveCancelled && ((CancellableEvent) event).wasCancelled()) break;
+                    if(metrics == null) entry.listener.accept(event);
+                    else invokeTimed(metrics, entry, event);
+                    if(stopOnCancel && ((CancellableEvent) event).wasCancelled()) break;
+                }
+
+                break;
+            }
+            catch(Throwable e)
+            {
+                // propagated errors are logged by the loop invoking the group
+                if(errorPolicy == ErrorPolicy.PROPAGATE) throw e;
+                if(failures == null) failures = Lists.newArrayList();
+                failures.addAll(isolate(members[i++], e));
+            }
+        }
+
+        if(failures != null) throw new ListenerFailures(outcome(event), failures);
+    }
+
+    private void invokeTimed(EventMetricsImpl metrics, ListenerEntry<E> entry, E event)
+    {
+        var start = System.nanoTime();
+
+        try
+        {
+            entry.listener.accept(event);
+        }
+        finally
+        {
+            metrics.latency(entry).record(System.nanoTime() - start);
+        }
+    }
+
+    private int outcome(E event, @Nullable List<ListenerFailure> failures)
+    {
+        var outcome = outcome(event);
+        if(failures != null) throw new ListenerFailures(outcome, failures);
+        return outcome;
+    }
+
+    private int outcome(E event)
+    {
+        return cancellable && ((CancellableEvent) event).wasCancelled() ? EventResult.CANCELLED : EventResult.SUCCESS;
+    }
+
+    private EventResult<E> pass()
+    {
+        passOutcome();
+        return passResult;
+    }
+
+    private int passOutcome()
+    {
+        var metrics = this.metrics;
+        if(metrics != null) metrics.passed.increment();
+        return EventResult.PASS;
+    }
+
+    // listener major, each listener is invoked for every event before moving onto the next listener
+    // the snapshot is read, and errors are handled, once for the whole batch rather than once per event
+    @SuppressWarnings("unchecked")
+    BitSet dispatchAll(Event[] events, int size)
+    {
+        var cancelled = new BitSet();
+        var listeners = this.listeners;
+        var metrics = this.metrics;
+
+        if(listeners.isEmpty || size == 0)
+        {
+            if(metrics != null) metrics.passed.add(size);
+            return cancelled;
+        }
+
+        var sync = listeners.sync;
+        var i = 0;
+        var j = 0;
+
+        // same as invoke, isolated failures resume from the event following the one the listener failed on
+        while(true)
+        {
+            try
+            {
+                for(; i < sync.length; i++, j = 0)
+                {
+                    var entry = sync[i];
+
+                    for(; j < size; j++)
+                    {
+                        var event = (E) events[j];
+                        // same as the break in invoke, stopping on cancel skips every remaining listener
+                        if(cancellable && (stopOnCancel || !entry.receiveCancelled) && ((CancellableEvent) event).wasCancelled()) continue;
+                        entry.listener.accept(event);
+                    }
+                }
+
+                break;
+            }
+            catch(Throwable e)
+            {
+                if(errorPolicy == ErrorPolicy.PROPAGATE)
+                {
+                    ApexUtils.LOGGER.error("Error occurred while posting batch of '{}'", this);
+                    throw e;
+                }
+
+                // batched posts only report cancellations, failures are only logged
+                isolate(sync[i], e);
+                j++;
+            }
+        }
+
+        for(j = 0; j < size; j++)
+        {
+            var event = (E) events[j];
+            var outcome = outcome(event);
+            if(outcome == EventResult.CANCELLED) cancelled.set(j);
+            if(metrics != null) metrics.recordOutcome(outcome);
+            if(hasAsyncWork(listeners, outcome)) dispatchAsync(listeners.async, event, null, List.of());
+        }
+
+        return cancelled;
+    }
+
+    private EventResult<E> result(E event, int outcome)
+    {
+        if(pool != null)
+        {
+            // pooled instances have their results cached alongside them
+            var pooled = pool.get();
+            if(pooled.event == event) return outcome == EventResult.CANCELLED ? pooled.cancelled : pooled.success;
+        }
+
+        return new EventResultImpl<>(this, event, outcome);
+    }
+
+    private EventResult<E> result(E event, int outcome, List<ListenerFailure> failures)
+    {
+        return failures.isEmpty() ? result(event, outcome) : new EventResultImpl<>(this, event, outcome, failures);
+    }
+
+    // links the event type into the hierarchy of already registered event types, only invoked once per event type
+    static void register(EventTypeImpl<?> eventType)
+    {
+        synchronized(LOCK)
+        {
+            var classType = eventType.classType;
+            var supertypes = EVENT_TYPES.values().stream().filter(other -> other.classType.isAssignableFrom(classType)).toList();
+            var subtypes = EVENT_TYPES.values().stream().filter(other -> classType.isAssignableFrom(other.classType)).toList();
+            if(eventType.pool != null && supertypes.stream().anyMatch(supertype -> Arrays.stream(supertype.registered).anyMatch(entry -> entry.async))) throw new IllegalStateException("Reusable event types do not support async listeners: '%s'".formatted(classType.getName()));
+            if(EVENT_TYPES.putIfAbsent(classType, eventType) != null) throw new IllegalStateException("Duplicate event type registration: '%s'".formatted(classType.getName()));
+
+            for(var supertype : supertypes)
+            {
+                eventType.supertypes.add(supertype);
+                supertype.subtypes.add(eventType);
+            }
+
+            // new event type has no listeners yet, its subtypes snapshots are unchanged
+            for(var subtype : subtypes)
+            {
+                subtype.supertypes.add(eventType);
+                eventType.subtypes.add(subtype);
+            }
+
+            eventType.rebuild();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    static <E extends Event> EventType<E> lookup(Class<E> classType)
+    {
+        return (EventType<E>) EVENT_TYPES.get(classType);
+    }
+
+    // region: Construction
+    // each arity invokes the factory exactly, skipping the Object[] the varargs path needs
+    @SuppressWarnings("unchecked")
+    private E construct()
+    {
+        checkArity(0);
+
+        try
+        {
+            var pooled = obtain();
+            if(pooled != null) return pooled;
+            return (E) (Object) factory.invokeExact();
+        }
+        catch(Throwable e)
+        {
+            throw constructionFailed(e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "DataFlowIssue" })
+    private E construct(Object arg)
+    {
+        checkArity(1);
+        E pooled = null;
+
+        try
+        {
+            pooled = obtain();
+            if(pooled == null) return (E) (Object) factory.invokeExact(arg);
+            initializer.invokeExact((Object) pooled, arg);
+            return pooled;
+        }
+        catch(Throwable e)
+        {
+            release(pooled);
+            throw constructionFailed(e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "DataFlowIssue" })
+    private E construct(Object arg1, Object arg2)
+    {
+        checkArity(2);
+        E pooled = null;
+
+        try
+        {
+            pooled = obtain();
+            if(pooled == null) return (E) (Object) factory.invokeExact(arg1, arg2);
+            initializer.invokeExact((Object) pooled, arg1, arg2);
+            return pooled;
+        }
+        catch(Throwable e)
+        {
+            release(pooled);
+            throw constructionFailed(e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "DataFlowIssue" })
+    private E construct(Object arg1, Object arg2, Object arg3)
+    {
+        checkArity(3);
+        E pooled = null;
+
+        try
+        {
+            pooled = obtain();
+            if(pooled == null) return (E) (Object) factory.invokeExact(arg1, arg2, arg3);
+            initializer.invokeExact((Object) pooled, arg1, arg2, arg3);
+            return pooled;
+        }
+        catch(Throwable e)
+        {
+            release(pooled);
+            throw constructionFailed(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E construct(Object[] args)
+    {
+        checkArity(args.length);
+        E pooled = null;
+
+        try
+        {
+            pooled = obtain();
+            if(pooled == null) return (E) (Object) spreadFactory.invokeExact(args);
+            if(spreadInitializer != null) spreadInitializer.invokeExact((Object) pooled, args);
+            return pooled;
+        }
+        catch(Throwable e)
+        {
+            release(pooled);
+            throw constructionFailed(e);
+        }
+    }
+
+    // returns the reset pooled instance for reusable event types, null for all other event types
+    @Nullable
+    private E obtain() throws Throwable
+    {
+        if(pool == null) return null;
+        var pooled = pool.get();
+        // event posted again from one of its own listeners, pooled instance is still in use
+        var event = pooled.inUse ? newPooledInstance() : pooled.acquire();
+        ((ReusableEvent) event).reset();
+        return event;
+    }
+
+    private void release(@Nullable E event)
+    {
+        if(pool == null || event == null) return;
+        var pooled = pool.get();
+        if(pooled.event == event) pooled.inUse = false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E newPooledInstance()
+    {
+        try
+        {
+            return (E) (Object) factory.invokeExact();
+        }
+        catch(Throwable e)
+        {
+            throw constructionFailed(e);
+        }
+    }
+
+    private void checkArity(int argCount)
+    {
+        if(arity != argCount) throw new IllegalArgumentException("Wrong number of event args for event type: '%s' (expected %d, got %d)".formatted(classType.getName(), arity, argCount));
+    }
+
+    // bound as the factory of abstract event types
+    private static Object notPostable(Class<?> classType)
+    {
+        throw new IllegalStateException("Abstract event types can not be posted: '%s'".formatted(classType.getName()));
+    }
+
+    private RuntimeException constructionFailed(Throwable e)
+    {
+        return new RuntimeException("Failed to construct new event instance for event type: '%s'".formatted(classType.getName()), e);
+    }
+    // endregion
+
+    private static <E extends Event> int indexOf(ListenerEntry<E>[] listeners, Consumer<E> listener)
+    {
+        for(var i = 0; i < listeners.length; i++)
+        {
+            if(listeners[i].matches(listener)) return i;
+        }
+
+        return -1;
+    }
+
+    // drops collected weakly referenced listeners, returning the given array as is when there are none
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> ListenerEntry<E>[] withoutStale(ListenerEntry<E>[] listeners)
+    {
+        if(Arrays.stream(listeners).noneMatch(ListenerEntry::isStale)) return listeners;
+        return Arrays.stream(listeners).filter(entry -> !entry.isStale()).toArray(ListenerEntry[]::new);
+    }
+
+    // rebuilds every event type owning a weakly referenced listener collected since listeners last changed
+    // only invoked while holding the lock
+    private static void purgeCollected()
+    {
+        Reference<?> collected;
+        while((collected = WeakListener.COLLECTED.poll()) != null) ((WeakListener<?>) collected).owner.invalidate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> ListenerEntry<E>[] noListeners()
+    {
+        return (ListenerEntry<E>[]) NO_LISTENERS;
+    }
+
+    // filtered listeners sharing a filter, the filter is tested once for the whole group
+    private final class FilterGroup implements Consumer<E>
+    {
+        private final Predicate<? super E> filter;
+        private final ListenerEntry<E>[] members;
+
+        private FilterGroup(Predicate<? super E> filter, ListenerEntry<E>[] members)
+        {
+            this.filter = filter;
+            this.members = members;
+        }
+
+        @Override
+        public void accept(E event)
+        {
+            if(filter.test(event)) invokeGroup(members, event);
+        }
+    }
+
+    // keyed listeners sharing an event key, only the listeners of the posted key are reached
+    private final class KeyIndex implements Consumer<E>
+    {
+        private final EventKey<? super E, ?> key;
+        private final Map<Object, ListenerEntry<E>[]> members;
+
+        private KeyIndex(EventKey<? super E, ?> key, Map<Object, ListenerEntry<E>[]> members)
+        {
+            this.key = key;
+            this.members = members;
+        }
+
+        @Override
+        public void accept(E event)
+        {
+            var keyed = members.get(key.key(event));
+            if(keyed != null) invokeGroup(keyed, event);
+        }
+    }
+
+    // thrown by invoke once every listener has been invoked, carrying the failures of listeners isolated along the way
+    // only ever thrown & caught within this class, so skips capturing a stack trace & is never serialized
+    @SuppressWarnings("serial")
+    private static final class ListenerFailures extends RuntimeException
+    {
+        private final int outcome;
+        private final List<ListenerFailure> failures;
+
+        private ListenerFailures(int outcome, List<ListenerFailure> failures)
+        {
+            super(null, null, false, false);
+            this.outcome = outcome;
+            this.failures = Collections.unmodifiableList(failures);
+        }
+    }
+
+    private static final class PooledEvent<E extends Event>
+    {
+        private final E event;
+        private final EventResult<E> success;
+        private final EventResult<E> cancelled;
+        private boolean inUse = false;
+
+        private PooledEvent(EventType<E> eventType, E event)
+        {
+            this.event = event;
+            success = EventResult.success(eventType, event);
+            cancelled = EventResult.cancelled(eventType, event);
+        }
+
+        private E acquire()
+        {
+            inUse = true;
+            return event;
+        }
     }
 }
@@ -0,0 +1,54 @@
+package xyz.apex.utils.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// lock-free log-linear histogram of nanosecond latencies
+// every power of two is split into SUB_BUCKETS linear buckets, bounding the relative error of recorded values to 1 / SUB_BUCKETS
+final class LatencyHistogram
+{
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // values below SUB_BUCKETS map 1:1, every following power of two up to 2^62 gets SUB_BUCKETS buckets
+    static final int BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos)
+    {
+        var value = Math.max(0L, nanos);
+        counts.incrementAndGet(index(value));
+        total.add(value);
+
+        // only contended while a new max is being recorded
+        var current = max.get();
+        while(value > current && !max.compareAndSet(current, value)) current = max.get();
+    }
+
+    LatencySnapshot snapshot()
+    {
+        var copy = new long[BUCKETS];
+        for(var i = 0; i < BUCKETS; i++) copy[i] = counts.get(i);
+        return new LatencySnapshot(copy, total.sum(), max.get());
+    }
+
+    static int index(long value)
+    {
+        if(value < SUB_BUCKETS) return (int) value;
+        // position of the highest set bit, then the SUB_BUCKET_BITS bits directly below it
+        var magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        var shift = magnitude - SUB_BUCKET_BITS;
+        var subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int index)
+    {
+        if(index < SUB_BUCKETS) return index;
+        var shift = index / SUB_BUCKETS - 1;
+        return (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+}
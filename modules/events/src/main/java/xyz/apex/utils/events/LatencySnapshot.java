@@ -0,0 +1,79 @@
+package xyz.apex.utils.events;
+
+/**
+ * Point in time copy of a latency histogram, all values are in nanoseconds.
+ * <p>
+ * Recorded latencies are bucketed, returned values may be off by up to 12.5% of the actual recorded value.
+ */
+public final class LatencySnapshot
+{
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    LatencySnapshot(long[] counts, long total, long max)
+    {
+        this.counts = counts;
+        this.total = total;
+        this.max = max;
+
+        var count = 0L;
+        for(var bucketCount : counts) count += bucketCount;
+        this.count = count;
+    }
+
+    /**
+     * @return Number of recorded latencies.
+     */
+    public long count()
+    {
+        return count;
+    }
+
+    /**
+     * @return Mean recorded latency or 0 if none have been recorded.
+     */
+    public double mean()
+    {
+        return count == 0L ? 0D : (double) total / count;
+    }
+
+    /**
+     * @return Max recorded latency or 0 if none have been recorded.
+     */
+    public long max()
+    {
+        return max;
+    }
+
+    /**
+     * Returns the latency the given percentage of recorded latencies are at or below.
+     *
+     * @param percentile Percentile to look up, between 0 &#38; 100.
+     * @return Latency at the given percentile or 0 if none have been recorded.
+     */
+    public long percentile(double percentile)
+    {
+        if(percentile < 0D || percentile > 100D) throw new IllegalArgumentException("Percentile must be between 0 & 100: %s".formatted(percentile));
+        if(count == 0L) return 0L;
+
+        var target = Math.max(1L, (long) Math.ceil(count * percentile / 100D));
+        var seen = 0L;
+
+        for(var i = 0; i < counts.length; i++)
+        {
+            seen += counts[i];
+            // highest value sharing this bucket, capped by the highest value actually recorded
+            if(seen >= target) return Math.min(max, LatencyHistogram.lowerBound(i + 1) - 1L);
+        }
+
+        return max;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LatencySnapshot[count=%d, mean=%.1fns, p50=%dns, p99=%dns, max=%dns]".formatted(count, mean(), percentile(50D), percentile(99D), max);
+    }
+}
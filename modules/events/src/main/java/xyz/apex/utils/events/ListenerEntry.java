@@ -0,0 +1,95 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+final class ListenerEntry<E extends Event> implements Registration
+{
+    // event type the listener was registered to, not necessarily the event type dispatching to it
+    final EventTypeImpl<E> owner;
+    // a WeakListener for weakly referenced listeners
+    final Consumer<E> listener;
+    final EventPriority priority;
+    final boolean receiveCancelled;
+    final boolean async;
+    // global registration order, breaks priority ties between listeners inherited from different event types
+    final long order;
+    // filtered listeners only, listeners sharing an equal filter are dispatched as a single group
+    @Nullable final Predicate<? super E> filter;
+    // keyed listeners only, listeners sharing a key are indexed by their keyValue
+    @Nullable final EventKey<? super E, ?> key;
+    @Nullable final Object keyValue;
+    // synthetic group entries only, the grouped listeners this entry dispatches to
+    @Nullable final ListenerEntry<E>[] members;
+    // number of times this listener has thrown, only counted by event types disabling failing listeners
+    final AtomicInteger failures = new AtomicInteger();
+    // set once the entry is removed from its owner, by any means
+    volatile boolean removed = false;
+
+    ListenerEntry(EventTypeImpl<E> owner, Consumer<E> listener, EventPriority priority, boolean receiveCancelled, boolean async, long order)
+    {
+        this(owner, listener, priority, receiveCancelled, async, order, null, null, null, null);
+    }
+
+    ListenerEntry(EventTypeImpl<E> owner, Consumer<E> listener, EventPriority priority, boolean receiveCancelled, boolean async, long order, @Nullable Predicate<? super E> filter, @Nullable EventKey<? super E, ?> key, @Nullable Object keyValue)
+    {
+        this(owner, listener, priority, receiveCancelled, async, order, filter, key, keyValue, null);
+    }
+
+    ListenerEntry(EventTypeImpl<E> owner, Consumer<E> listener, EventPriority priority, boolean receiveCancelled, boolean async, long order, ListenerEntry<E>[] members)
+    {
+        this(owner, listener, priority, receiveCancelled, async, order, null, null, null, members);
+    }
+
+    private ListenerEntry(EventTypeImpl<E> owner, Consumer<E> listener, EventPriority priority, boolean receiveCancelled, boolean async, long order, @Nullable Predicate<? super E> filter, @Nullable EventKey<? super E, ?> key, @Nullable Object keyValue, @Nullable ListenerEntry<E>[] members)
+    {
+        this.owner = owner;
+        this.listener = listener;
+        this.priority = priority;
+        this.receiveCancelled = receiveCancelled;
+        this.async = async;
+        this.order = order;
+        this.filter = filter;
+        this.key = key;
+        this.keyValue = keyValue;
+        this.members = members;
+    }
+
+    boolean isGrouped()
+    {
+        return filter != null || key != null;
+    }
+
+    boolean matches(Consumer<?> listener)
+    {
+        if(this.listener instanceof WeakListener<E> weak) return weak.get() == listener;
+        return this.listener.equals(listener);
+    }
+
+    // weakly referenced listener which has since been collected
+    boolean isStale()
+    {
+        return listener instanceof WeakListener<E> weak && weak.get() == null;
+    }
+
+    @Override
+    public EventType<?> eventType()
+    {
+        return owner;
+    }
+
+    @Override
+    public boolean isRegistered()
+    {
+        return !removed && !isStale();
+    }
+
+    @Override
+    public void close()
+    {
+        if(!removed) owner.unregister(this);
+    }
+}
@@ -0,0 +1,49 @@
+package xyz.apex.utils.events;
+
+import java.util.Arrays;
+
+// immutable view of the listeners an event type dispatches to, replaced as a whole whenever listeners change
+final class ListenerSnapshot<E extends Event>
+{
+    private static final ListenerEntry<?>[] NO_LISTENERS = new ListenerEntry<?>[0];
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final ListenerSnapshot<?> EMPTY = new ListenerSnapshot(NO_LISTENERS, NO_LISTENERS);
+
+    // both sorted by priority
+    final ListenerEntry<E>[] sync;
+    final ListenerEntry<E>[] async;
+    final boolean isEmpty;
+
+    private ListenerSnapshot(ListenerEntry<E>[] sync, ListenerEntry<E>[] async)
+    {
+        this.sync = sync;
+        this.async = async;
+        isEmpty = sync.length == 0 && async.length == 0;
+    }
+
+    static <E extends Event> ListenerSnapshot<E> of(ListenerEntry<E>[] listeners)
+    {
+        if(listeners.length == 0) return empty();
+        var asyncCount = (int) Arrays.stream(listeners).filter(entry -> entry.async).count();
+        if(asyncCount == 0) return new ListenerSnapshot<>(listeners, ListenerSnapshot.<E>empty().async);
+
+        var sync = Arrays.copyOf(listeners, listeners.length - asyncCount);
+        var async = Arrays.copyOf(listeners, asyncCount);
+        var syncIndex = 0;
+        var asyncIndex = 0;
+
+        for(var entry : listeners)
+        {
+            if(entry.async) async[asyncIndex++] = entry;
+            else sync[syncIndex++] = entry;
+        }
+
+        return new ListenerSnapshot<>(sync, async);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends Event> ListenerSnapshot<E> empty()
+    {
+        return (ListenerSnapshot<E>) EMPTY;
+    }
+}
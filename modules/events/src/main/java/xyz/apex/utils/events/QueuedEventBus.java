@@ -0,0 +1,92 @@
+package xyz.apex.utils.events;
+
+/**
+ * QueuedEventBus - Used to post Events from any thread, to be handled on a single owning thread.
+ * <p>
+ * Events are constructed on the enqueuing thread &#38; pushed into a bounded lock-free queue.<br>
+ * Queued Events are posted to their EventType on whichever thread invokes {@link #drain()},
+ * or on a dedicated thread once {@link #start()} has been invoked.
+ * <p>
+ * Events are posted in the order they were enqueued, provided only one thread drains the queue.
+ */
+public sealed interface QueuedEventBus extends AutoCloseable permits QueuedEventBusImpl
+{
+    /**
+     * Enqueues a new Event, to be posted the next time this bus is drained.
+     * <p>
+     * Reusable EventTypes always enqueue a fresh Event instance.
+     *
+     * @param eventType EventType the Event is posted to.
+     * @param eventArgs Args passed along to EventType to construct a new event instance.
+     * @return True if the Event was enqueued, false if it was rejected due to the queue being full.
+     * @param <E> Type of Event being enqueued.
+     * @throws IllegalStateException If this bus has been closed.
+     * @see Backpressure
+     */
+    <E extends Event> boolean enqueue(EventType<E> eventType, Object... eventArgs);
+
+    /**
+     * Posts every currently queued Event on the calling thread.
+     *
+     * @return Number of Events posted.
+     */
+    int drain();
+
+    /**
+     * Posts up to the given number of queued Events on the calling thread.
+     *
+     * @param maxEvents Max number of Events to be posted.
+     * @return Number of Events posted.
+     */
+    int drain(int maxEvents);
+
+    /**
+     * Starts a dedicated daemon thread, continuously draining this bus until it is closed.
+     *
+     * @return This QueuedEventBus.
+     * @throws IllegalStateException If this bus has already been started or closed.
+     */
+    QueuedEventBus start();
+
+    /**
+     * @return Number of Events currently queued.
+     */
+    int size();
+
+    /**
+     * @param eventType EventType to look up the queue depth for.
+     * @return Number of Events currently queued for the given EventType.
+     */
+    int depth(EventType<?> eventType);
+
+    /**
+     * @return Max number of Events which may be queued at once.
+     */
+    int capacity();
+
+    /**
+     * @return Strategy used when Events are enqueued while this bus is full.
+     */
+    Backpressure backpressure();
+
+    /**
+     * Closes this bus, no more Events may be enqueued once closed.
+     * <p>
+     * The dedicated thread, if started, drains any remaining Events before this returns.<br>
+     * Otherwise remaining Events may still be drained manually.
+     */
+    @Override
+    void close();
+
+    /**
+     * Constructs a new QueuedEventBus.
+     *
+     * @param capacity Max number of Events which may be queued at once, rounded up to the next power of two.
+     * @param backpressure Strategy used when Events are enqueued while the bus is full.
+     * @return Newly constructed QueuedEventBus.
+     */
+    static QueuedEventBus create(int capacity, Backpressure backpressure)
+    {
+        return new QueuedEventBusImpl(capacity, backpressure);
+    }
+}
@@ -0,0 +1,210 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+import xyz.apex.utils.core.ApexUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+final class QueuedEventBusImpl implements QueuedEventBus
+{
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private final EventRing<QueuedEvent<?>> queue;
+    private final Backpressure backpressure;
+    private final Map<EventType<?>, AtomicInteger> depths = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+    @Nullable private volatile Thread thread = null;
+
+    QueuedEventBusImpl(int capacity, Backpressure backpressure)
+    {
+        if(capacity <= 0) throw new IllegalArgumentException("QueuedEventBus capacity must be positive: %d".formatted(capacity));
+        queue = new EventRing<>(capacity);
+        this.backpressure = backpressure;
+    }
+
+    @Override
+    public <E extends Event> boolean enqueue(EventType<E> eventType, Object... eventArgs)
+    {
+        if(closed) throw new IllegalStateException("Can not enqueue events to a closed QueuedEventBus");
+        // constructed here, so construction failures surface on the enqueuing thread
+        var queued = new QueuedEvent<>((EventTypeImpl<E>) eventType, eventType.newInstance(eventArgs));
+        // incremented before offering, so draining never sees the depth drop below 0
+        var depth = depth0(eventType);
+        depth.incrementAndGet();
+
+        while(!queue.offer(queued))
+        {
+            switch(backpressure)
+            {
+                case REJECT -> {
+                    depth.decrementAndGet();
+                    return false;
+                }
+                case DROP_OLDEST -> {
+                    var dropped = queue.poll();
+                    if(dropped != null) depth0(dropped.eventType).decrementAndGet();
+                }
+                case BLOCK -> {
+                    if(closed)
+                    {
+                        depth.decrementAndGet();
+                        throw new IllegalStateException("QueuedEventBus was closed while waiting to enqueue event");
+                    }
+
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+            }
+        }
+
+        var thread = this.thread;
+        if(thread != null) LockSupport.unpark(thread);
+        return true;
+    }
+
+    @Override
+    public int drain()
+    {
+        return drain(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drain(int maxEvents)
+    {
+        var drained = 0;
+
+        while(drained < maxEvents)
+        {
+            var queued = queue.poll();
+            if(queued == null) break;
+            depth0(queued.eventType).decrementAndGet();
+            drained++;
+            queued.post();
+        }
+
+        return drained;
+    }
+
+    @Override
+    public QueuedEventBus start()
+    {
+        synchronized(this)
+        {
+            if(closed) throw new IllegalStateException("Can not start a closed QueuedEventBus");
+            if(thread != null) throw new IllegalStateException("QueuedEventBus has already been started");
+            var thread = new Thread(this::run, "ApexUtils-QueuedEventBus-%d".formatted(THREAD_ID.getAndIncrement()));
+            thread.setDaemon(true);
+            this.thread = thread;
+            thread.start();
+        }
+
+        return this;
+    }
+
+    @Override
+    public int size()
+    {
+        return queue.size();
+    }
+
+    @Override
+    public int depth(EventType<?> eventType)
+    {
+        var depth = depths.get(eventType);
+        return depth == null ? 0 : depth.get();
+    }
+
+    @Override
+    public int capacity()
+    {
+        return queue.capacity();
+    }
+
+    @Override
+    public Backpressure backpressure()
+    {
+        return backpressure;
+    }
+
+    @Override
+    public void close()
+    {
+        Thread thread;
+
+        synchronized(this)
+        {
+            if(closed) return;
+            closed = true;
+            thread = this.thread;
+        }
+
+        if(thread == null || thread == Thread.currentThread()) return;
+        LockSupport.unpark(thread);
+
+        try
+        {
+            thread.join();
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run()
+    {
+        while(!closed)
+        {
+            // park only when there was nothing to do, producers unpark us as they enqueue
+            if(drainSafely() == 0) LockSupport.parkNanos(this, PARK_NANOS);
+        }
+
+        // post whatever was enqueued before closing
+        drainSafely();
+    }
+
+    private int drainSafely()
+    {
+        var drained = 0;
+
+        for(;;)
+        {
+            try
+            {
+                return drained + drain();
+            }
+            catch(Throwable e)
+            {
+                // failing event was already dequeued, keep going with the rest
+                ApexUtils.LOGGER.error("Error occurred while draining QueuedEventBus", e);
+                drained++;
+            }
+        }
+    }
+
+    private AtomicInteger depth0(EventType<?> eventType)
+    {
+        return depths.computeIfAbsent(eventType, key -> new AtomicInteger());
+    }
+
+    private static final class QueuedEvent<E extends Event>
+    {
+        private final EventTypeImpl<E> eventType;
+        private final E event;
+
+        private QueuedEvent(EventTypeImpl<E> eventType, E event)
+        {
+            this.eventType = eventType;
+            this.event = event;
+        }
+
+        private void post()
+        {
+            eventType.postEvent(event);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package xyz.apex.utils.events;
+
+/**
+ * Registration - Handle to a listener registered to an EventType.
+ * <p>
+ * Closing the Registration unregisters the listener, closing an already unregistered listener does nothing.
+ *
+ * @see EventType#addListener(EventPriority, boolean, java.util.function.Consumer)
+ */
+public sealed interface Registration extends AutoCloseable permits ListenerEntry
+{
+    /**
+     * @return EventType the listener was registered to.
+     */
+    EventType<?> eventType();
+
+    /**
+     * @return True if the listener is still registered.
+     */
+    boolean isRegistered();
+
+    /**
+     * Unregisters the listener.
+     */
+    @Override
+    void close();
+}
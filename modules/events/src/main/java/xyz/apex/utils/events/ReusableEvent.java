@@ -0,0 +1,28 @@
+package xyz.apex.utils.events;
+
+/**
+ * Interface used to mark Events as being reusable.
+ * <p>
+ * EventTypes registered using {@link EventTypeBuilder#reusable()} keep a single pooled instance per thread,
+ * which is reset &#38; refilled on every post rather than constructing a new Event each time.
+ * <p>
+ * Reusable Events must declare a public no-arg constructor, used to create the pooled instances.<br>
+ * Reusable Events posted with args must also declare a public {@value #INIT_METHOD} method, whose parameters match the {@code argTypes} the EventType was registered with.
+ * <p>
+ * Pooled instances (and the EventResults returned for them) are only valid until the EventType is next posted on the same thread,
+ * listeners &#38; callers must not hold onto them.
+ */
+public interface ReusableEvent extends Event
+{
+    /**
+     * Name of the method used to fill in the args of pooled instances.
+     */
+    String INIT_METHOD = "init";
+
+    /**
+     * Resets this Event back to its initial state.
+     * <p>
+     * Invoked before every reuse, implementations must clear any state set while previously being posted.
+     */
+    void reset();
+}
@@ -15,4 +15,14 @@ public class SimpleCancelableEvent implements CancellableEvent
     {
         return cancelled;
     }
+
+    /**
+     * Clears the cancelled state of this Event.
+     * <p>
+     * Intended for {@link ReusableEvent#reset()} implementations, which must start every post uncancelled.
+     */
+    protected final void clearCancelled()
+    {
+        cancelled = false;
+    }
 }
@@ -0,0 +1,35 @@
+package xyz.apex.utils.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as a listener, to be registered by {@link EventType#subscribe(Object)}.
+ * <p>
+ * Annotated methods must return void &#38; take a single parameter, the type of Event to listen to.<br>
+ * The EventType of that Event must be registered, it is looked up once when the class is first subscribed.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SubscribeEvent
+{
+    /**
+     * @return Priority the listener is registered with.
+     */
+    EventPriority priority() default EventPriority.NORMAL;
+
+    /**
+     * @return Whether the listener should still be invoked for cancelled events.
+     */
+    boolean receiveCancelled() default true;
+
+    /**
+     * @return Whether the listener is registered as an async listener.
+     * @see EventType#addAsyncListener(EventPriority, boolean, java.util.function.Consumer)
+     */
+    boolean async() default false;
+}
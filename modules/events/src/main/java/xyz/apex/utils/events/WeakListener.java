@@ -0,0 +1,28 @@
+package xyz.apex.utils.events;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.function.Consumer;
+
+// weakly referenced listener, once collected it is skipped until the listeners of its event type are next rebuilt
+final class WeakListener<E extends Event> extends WeakReference<Consumer<E>> implements Consumer<E>
+{
+    // collected listeners are enqueued here, drained whenever listeners change to purge them from their owners
+    static final ReferenceQueue<Object> COLLECTED = new ReferenceQueue<>();
+
+    // event type the listener was registered to
+    final EventTypeImpl<?> owner;
+
+    WeakListener(EventTypeImpl<?> owner, Consumer<E> listener)
+    {
+        super(listener, COLLECTED);
+        this.owner = owner;
+    }
+
+    @Override
+    public void accept(E event)
+    {
+        var listener = get();
+        if(listener != null) listener.accept(event);
+    }
+}
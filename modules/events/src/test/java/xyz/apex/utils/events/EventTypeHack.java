@@ -1,12 +1,15 @@
 package xyz.apex.utils.events;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface EventTypeHack
 {
     static <E extends Event> List<Consumer<E>> listeners(EventType<E> eventType)
     {
-        return ((EventTypeImpl<E>) eventType).listeners;
+        var listeners = ((EventTypeImpl<E>) eventType).listeners;
+        return Stream.concat(Arrays.stream(listeners.sync), Arrays.stream(listeners.async)).map(entry -> entry.listener).toList();
     }
 }
@@ -0,0 +1,74 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventResult;
+
+import java.lang.management.ManagementFactory;
+
+public final class AllocationTests
+{
+    private static final int ITERATIONS = 100_000;
+    // generous upper bound, covers anything the measurement itself allocates but not one allocation per iteration
+    private static final long MAX_ALLOCATED = 16L * 1024L;
+
+    private static final EventResult.IntHandler<TestEvent> HANDLER = new EventResult.IntHandler<>() {
+        @Override
+        public int onSuccess(TestEvent event)
+        {
+            return 1;
+        }
+
+        @Override
+        public int onCancelled(TestEvent event)
+        {
+            return 0;
+        }
+
+        @Override
+        public int onPass()
+        {
+            return 2;
+        }
+    };
+
+    @Test
+    void nonAllocating()
+    {
+        var threads = ManagementFactory.getThreadMXBean();
+        // allocated byte counts are only exposed by the hotspot extension of the bean
+        if(!(threads instanceof com.sun.management.ThreadMXBean hotspot) || !hotspot.isThreadAllocatedMemorySupported()) return;
+        hotspot.setThreadAllocatedMemoryEnabled(true);
+
+        var registration = TestEvent.EVENT_TYPE.addListener(event -> { });
+        var result = TestEvent.EVENT_TYPE.post();
+        registration.close();
+        var passed = EventResult.pass(TestEvent.EVENT_TYPE);
+
+        // warm up first, so class loading & jit compilation are not measured
+        var sum = run(result, passed);
+        var threadId = Thread.currentThread().getId();
+        var before = hotspot.getThreadAllocatedBytes(threadId);
+        sum += run(result, passed);
+        var allocated = hotspot.getThreadAllocatedBytes(threadId) - before;
+
+        Assertions.assertTrue(sum > 0);
+        Assertions.assertTrue(allocated < MAX_ALLOCATED, () -> "Expected result mapping to not allocate, but %d bytes were allocated".formatted(allocated));
+    }
+
+    private static long run(EventResult<TestEvent> result, EventResult<TestEvent> passed)
+    {
+        var sum = 0L;
+
+        for(var i = 0; i < ITERATIONS; i++)
+        {
+            sum += result.switchOn(0, 1, 2);
+            sum += passed.mapToInt(event -> 1, 0);
+            sum += result.mapToLong(event -> 1L, 0L);
+            sum += result.handleAsInt(HANDLER);
+            sum += EventResult.switchOn(result.getAsInt(), 0, 1, 2);
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,60 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+public final class AsyncEventTests
+{
+    @Test
+    void async() throws Exception
+    {
+        var caller = Thread.currentThread();
+        var threads = Collections.synchronizedList(new ArrayList<Thread>());
+        Consumer<TestAsyncEvent> sync = event -> threads.add(Thread.currentThread());
+        Consumer<TestAsyncEvent> async = event -> {
+            threads.add(Thread.currentThread());
+            event.cancel();
+        };
+
+        TestAsyncEvent.EVENT_TYPE.addListener(sync);
+        TestAsyncEvent.EVENT_TYPE.addAsyncListener(async);
+
+        var result = TestAsyncEvent.EVENT_TYPE.postAsync(1).get(5, TimeUnit.SECONDS);
+        Assertions.assertTrue(result::wasCancelled, "Async listener failed to cancel the event");
+        Assertions.assertSame(caller, threads.get(0), "Sync listener was not invoked on the posting thread");
+        Assertions.assertNotSame(caller, threads.get(1), "Async listener was invoked on the posting thread");
+
+        TestAsyncEvent.EVENT_TYPE.removeListener(sync);
+        TestAsyncEvent.EVENT_TYPE.removeListener(async);
+    }
+
+    @Test
+    void ordering() throws Exception
+    {
+        var values = Collections.synchronizedList(new ArrayList<Integer>());
+        Consumer<TestAsyncEvent> async = event -> values.add(event.value);
+        TestAsyncEvent.EVENT_TYPE.addAsyncListener(EventPriority.NORMAL, false, async);
+
+        var futures = IntStream.range(0, 100).mapToObj(TestAsyncEvent.EVENT_TYPE::postAsync).toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(IntStream.range(0, 100).boxed().toList(), List.copyOf(values), "Async listeners were invoked out of post order");
+
+        TestAsyncEvent.EVENT_TYPE.removeListener(async);
+    }
+
+    @Test
+    void reusable()
+    {
+        Assertions.assertThrows(IllegalStateException.class, () -> TestReusableEvent.EVENT_TYPE.addAsyncListener(SimpleCancelableEvent::cancel));
+    }
+}
@@ -0,0 +1,114 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+public final class CoalesceTests
+{
+    @Test
+    void flush()
+    {
+        var invoked = new CopyOnWriteArrayList<String>();
+        var registration = TestCoalescedEvent.EVENT_TYPE.addListener(event -> invoked.add(event.name + "=" + event.value));
+
+        try(var coalescer = TestCoalescedEvent.EVENT_TYPE.coalesce(event -> event.name))
+        {
+            Assertions.assertFalse(coalescer.post("a", 1));
+            Assertions.assertFalse(coalescer.post("b", 1));
+            Assertions.assertTrue(coalescer.post("a", 2));
+            Assertions.assertTrue(coalescer.post("a", 3));
+
+            Assertions.assertTrue(invoked.isEmpty(), "Coalesced events were posted before being flushed");
+            Assertions.assertEquals(2, coalescer.pending());
+            Assertions.assertEquals(2, coalescer.flush());
+            Assertions.assertEquals(List.of("a=3", "b=1"), invoked);
+
+            Assertions.assertEquals(4L, coalescer.posted());
+            Assertions.assertEquals(2L, coalescer.suppressed());
+            Assertions.assertEquals(2L, coalescer.dispatched());
+            Assertions.assertEquals(0, coalescer.flush());
+
+            coalescer.post("c", 1);
+        }
+        finally
+        {
+            registration.close();
+        }
+
+        // closing flushes anything still pending
+        Assertions.assertEquals(List.of("a=3", "b=1", "c=1"), invoked);
+    }
+
+    @Test
+    void concurrentFlushes() throws Exception
+    {
+        var invoked = new CopyOnWriteArrayList<String>();
+        var blocking = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var registration = TestCoalescedEvent.EVENT_TYPE.addListener(event -> {
+            if(event.value == 1)
+            {
+                blocking.countDown();
+
+                try
+                {
+                    release.await(5L, TimeUnit.SECONDS);
+                }
+                catch(InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            invoked.add(event.name + "=" + event.value);
+        });
+
+        try(var coalescer = TestCoalescedEvent.EVENT_TYPE.coalesce(event -> event.name))
+        {
+            coalescer.post("a", 1);
+            var first = CompletableFuture.runAsync(coalescer::flush);
+            blocking.await(5L, TimeUnit.SECONDS);
+
+            // taken while the first batch is still being dispatched, must only be dispatched after it
+            coalescer.post("b", 2);
+            var second = CompletableFuture.runAsync(coalescer::flush);
+            Thread.sleep(100L);
+            release.countDown();
+
+            first.get(5L, TimeUnit.SECONDS);
+            second.get(5L, TimeUnit.SECONDS);
+            Assertions.assertEquals(List.of("a=1", "b=2"), invoked, "Concurrent flushes dispatched their batches out of order");
+        }
+        finally
+        {
+            release.countDown();
+            registration.close();
+        }
+    }
+
+    @Test
+    void window() throws Exception
+    {
+        var flushed = new CompletableFuture<String>();
+        var registration = TestCoalescedEvent.EVENT_TYPE.addListener(event -> flushed.complete(event.name + "=" + event.value));
+
+        try(var coalescer = TestCoalescedEvent.EVENT_TYPE.coalesce(event -> event.name, Duration.ofMillis(250L)))
+        {
+            for(var i = 0; i < 100; i++) coalescer.post("a", i);
+            Assertions.assertEquals("a=99", flushed.get(5L, TimeUnit.SECONDS));
+            Assertions.assertEquals(99L, coalescer.suppressed());
+            Assertions.assertEquals(1L, coalescer.dispatched());
+        }
+        finally
+        {
+            registration.close();
+        }
+    }
+}
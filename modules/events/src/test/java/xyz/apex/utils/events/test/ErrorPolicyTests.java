@@ -0,0 +1,115 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.EventResult;
+import xyz.apex.utils.events.EventTypeHack;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public final class ErrorPolicyTests
+{
+    @Test
+    void isolation()
+    {
+        var invoked = new ArrayList<String>();
+        var error = new IllegalStateException("Broken listener");
+        Consumer<TestIsolatedEvent> broken = event -> {
+            invoked.add("broken");
+            throw error;
+        };
+        Consumer<TestIsolatedEvent> canceller = event -> {
+            invoked.add("canceller");
+            event.cancel();
+        };
+        TestIsolatedEvent.EVENT_TYPE.addListener(EventPriority.HIGH, broken);
+        TestIsolatedEvent.EVENT_TYPE.addListener(EventPriority.LOW, canceller);
+
+        var result = TestIsolatedEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(List.of("broken", "canceller"), invoked, "Listener following a failing listener was not invoked");
+        Assertions.assertTrue(result::wasCancelled, "Cancelable event was not cancelled, was expected to have been");
+        Assertions.assertEquals(1, result.failures().size());
+        Assertions.assertSame(broken, result.failures().get(0).listener());
+        Assertions.assertSame(error, result.failures().get(0).error());
+
+        // second failure reaches the limit, disabling the listener
+        Assertions.assertEquals(1, TestIsolatedEvent.EVENT_TYPE.post().failures().size());
+        Assertions.assertEquals(List.of(canceller), EventTypeHack.listeners(TestIsolatedEvent.EVENT_TYPE), "Failing listener was not disabled");
+
+        invoked.clear();
+        Assertions.assertTrue(TestIsolatedEvent.EVENT_TYPE.post().failures().isEmpty());
+        Assertions.assertEquals(List.of("canceller"), invoked);
+        TestIsolatedEvent.EVENT_TYPE.removeListener(canceller);
+    }
+
+    @Test
+    void disablesFailingGroup()
+    {
+        var error = new IllegalStateException("Broken filter");
+        Predicate<TestIsolatedEvent> broken = event -> {
+            throw error;
+        };
+        Consumer<TestIsolatedEvent> first = event -> { };
+        Consumer<TestIsolatedEvent> second = event -> { };
+        TestIsolatedEvent.EVENT_TYPE.addListener(broken, first);
+        TestIsolatedEvent.EVENT_TYPE.addListener(broken, second);
+
+        // shared filter failures are attributed to every member of the group
+        var failures = TestIsolatedEvent.EVENT_TYPE.post().failures();
+        Assertions.assertEquals(List.of(first, second), failures.stream().map(EventResult.ListenerFailure::listener).toList());
+        Assertions.assertSame(error, failures.get(0).error());
+
+        TestIsolatedEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(List.of(), EventTypeHack.listeners(TestIsolatedEvent.EVENT_TYPE), "Members of failing group were not disabled");
+        Assertions.assertTrue(TestIsolatedEvent.EVENT_TYPE.post().failures().isEmpty());
+    }
+
+    @Test
+    void isolatedBatch()
+    {
+        Consumer<TestIsolatedEvent> flaky = new Consumer<>() {
+            private int invocations = 0;
+
+            @Override
+            public void accept(TestIsolatedEvent event)
+            {
+                if(invocations++ == 0) throw new IllegalStateException("Broken listener");
+                event.cancel();
+            }
+        };
+        TestIsolatedEvent.EVENT_TYPE.addListener(flaky);
+
+        var batch = TestIsolatedEvent.EVENT_TYPE.batch();
+        for(var i = 0; i < 3; i++) batch.add();
+        var cancelled = batch.post();
+        Assertions.assertEquals(2, cancelled.cardinality(), "Batch did not resume after failing listener");
+        Assertions.assertFalse(cancelled.get(0));
+        TestIsolatedEvent.EVENT_TYPE.removeListener(flaky);
+    }
+
+    @Test
+    void propagate()
+    {
+        Consumer<TestCancelableEvent> broken = event -> {
+            throw new IllegalStateException("Broken listener");
+        };
+        TestCancelableEvent.EVENT_TYPE.addListener(broken);
+        Consumer<TestCancelableEvent> canceller = SimpleCancelableEvent::cancel;
+        TestCancelableEvent.EVENT_TYPE.addListener(EventPriority.LOW, canceller);
+
+        try
+        {
+            Assertions.assertThrows(IllegalStateException.class, TestCancelableEvent.EVENT_TYPE::post);
+        }
+        finally
+        {
+            TestCancelableEvent.EVENT_TYPE.removeListener(broken);
+            TestCancelableEvent.EVENT_TYPE.removeListener(canceller);
+        }
+    }
+}
@@ -2,9 +2,16 @@ package xyz.apex.utils.events.test;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.EventResult;
+import xyz.apex.utils.events.EventType;
 import xyz.apex.utils.events.EventTypeHack;
 import xyz.apex.utils.events.SimpleCancelableEvent;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 public final class EventTests
@@ -42,8 +49,134 @@ public final class EventTests
     {
         var result = TestEvent.EVENT_TYPE.post();
         Assertions.assertFalse(result::wasCancelled, "None cancelable event was cancelled, this should never happen");
-        TestCancelableEvent.EVENT_TYPE.addListener(SimpleCancelableEvent::cancel);
-        var result1 = TestCancelableEvent.EVENT_TYPE.post();
-        Assertions.assertTrue(result1::wasCancelled, "Cancelable event was not cancelled, was expected to have been");
+        var registration = TestCancelableEvent.EVENT_TYPE.addListener(SimpleCancelableEvent::cancel);
+
+        try
+        {
+            var result1 = TestCancelableEvent.EVENT_TYPE.post();
+            Assertions.assertTrue(result1::wasCancelled, "Cancelable event was not cancelled, was expected to have been");
+        }
+        finally
+        {
+            registration.close();
+        }
+    }
+
+    @Test
+    void arguments()
+    {
+        var registration = TestArgsEvent.EVENT_TYPE.addListener(event -> { });
+
+        try
+        {
+            var result = TestArgsEvent.EVENT_TYPE.post("hello", 1);
+            Assertions.assertEquals("hello", result.map(event -> event.name).orElse(null));
+            Assertions.assertEquals(1, result.map(event -> event.value).orElse(null));
+            var result1 = TestArgsEvent.EVENT_TYPE.post(new Object[] { "world", 2 });
+            Assertions.assertEquals("world", result1.map(event -> event.name).orElse(null));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> TestArgsEvent.EVENT_TYPE.post("hello"));
+        }
+        finally
+        {
+            registration.close();
+        }
+    }
+
+    @Test
+    void listenersDuringPost()
+    {
+        var invocations = new AtomicInteger();
+        Consumer<TestEvent> late = event -> invocations.incrementAndGet();
+        Consumer<TestEvent> listener = event -> TestEvent.EVENT_TYPE.addListener(late);
+        TestEvent.EVENT_TYPE.addListener(listener);
+        Assertions.assertDoesNotThrow(() -> TestEvent.EVENT_TYPE.post());
+        Assertions.assertEquals(0, invocations.get(), "Listener registered mid post should only receive the next post");
+        TestEvent.EVENT_TYPE.removeListener(listener);
+        TestEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(1, invocations.get());
+        TestEvent.EVENT_TYPE.removeListener(late);
+    }
+
+    @Test
+    void outcomes()
+    {
+        Assertions.assertSame(EventResult.pass(TestReusableEvent.EVENT_TYPE), TestReusableEvent.EVENT_TYPE.post(1), "Pass results should be cached per event type");
+        Assertions.assertEquals(EventResult.PASS, TestReusableEvent.EVENT_TYPE.postForOutcome(1));
+        Consumer<TestReusableEvent> listener = SimpleCancelableEvent::cancel;
+        TestReusableEvent.EVENT_TYPE.addListener(listener);
+        Assertions.assertEquals(EventResult.CANCELLED, TestReusableEvent.EVENT_TYPE.postForOutcome(1));
+        TestReusableEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void priorities()
+    {
+        var invoked = new ArrayList<String>();
+        Consumer<TestReusableEvent> low = event -> invoked.add("low");
+        Consumer<TestReusableEvent> monitor = event -> invoked.add("monitor");
+        Consumer<TestReusableEvent> normal = event -> invoked.add("normal");
+        Consumer<TestReusableEvent> highest = event -> {
+            invoked.add("highest");
+            event.cancel();
+        };
+
+        TestReusableEvent.EVENT_TYPE.addListener(EventPriority.LOW, low);
+        TestReusableEvent.EVENT_TYPE.addListener(EventPriority.MONITOR, monitor);
+        TestReusableEvent.EVENT_TYPE.addListener(EventPriority.NORMAL, false, normal);
+        TestReusableEvent.EVENT_TYPE.addListener(EventPriority.HIGHEST, highest);
+
+        var result = TestReusableEvent.EVENT_TYPE.post(1);
+        Assertions.assertTrue(result::wasCancelled, "Cancelable event was not cancelled, was expected to have been");
+        Assertions.assertEquals(List.of("highest", "low", "monitor"), invoked);
+
+        TestReusableEvent.EVENT_TYPE.removeListener(low);
+        TestReusableEvent.EVENT_TYPE.removeListener(monitor);
+        TestReusableEvent.EVENT_TYPE.removeListener(normal);
+        TestReusableEvent.EVENT_TYPE.removeListener(highest);
+    }
+
+    @Test
+    void stopOnCancel()
+    {
+        var invocations = new AtomicInteger();
+        Consumer<TestStopOnCancelEvent> canceller = SimpleCancelableEvent::cancel;
+        Consumer<TestStopOnCancelEvent> listener = event -> invocations.incrementAndGet();
+        TestStopOnCancelEvent.EVENT_TYPE.addListener(canceller);
+        TestStopOnCancelEvent.EVENT_TYPE.addListener(EventPriority.MONITOR, listener);
+
+        var result = TestStopOnCancelEvent.EVENT_TYPE.post();
+        Assertions.assertTrue(result::wasCancelled, "Cancelable event was not cancelled, was expected to have been");
+        Assertions.assertEquals(0, invocations.get(), "Listener was invoked after the event was cancelled");
+        Assertions.assertThrows(IllegalStateException.class, () -> EventType.builder(TestEvent.class).stopOnCancel());
+
+        TestStopOnCancelEvent.EVENT_TYPE.removeListener(canceller);
+        TestStopOnCancelEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void batches()
+    {
+        var invoked = new ArrayList<String>();
+        Consumer<TestReusableEvent> canceller = event -> {
+            invoked.add("canceller:" + event.value);
+            if(event.value % 2 == 1) event.cancel();
+        };
+        Consumer<TestReusableEvent> listener = event -> invoked.add("listener:" + event.value);
+        TestReusableEvent.EVENT_TYPE.addListener(EventPriority.HIGH, canceller);
+        TestReusableEvent.EVENT_TYPE.addListener(EventPriority.LOW, false, listener);
+
+        var batch = TestReusableEvent.EVENT_TYPE.batch().add(0).add(1).add(2);
+        Assertions.assertEquals(3, batch.size());
+        var cancelled = batch.post();
+        Assertions.assertEquals(0, batch.size(), "Batch was not cleared after posting");
+        Assertions.assertEquals(BitSet.valueOf(new long[] { 0b010 }), cancelled);
+        // every event passes through the first listener before any reach the second
+        Assertions.assertEquals(List.of("canceller:0", "canceller:1", "canceller:2", "listener:0", "listener:2"), invoked);
+
+        cancelled = TestReusableEvent.EVENT_TYPE.postAll(List.of(1, 3, 4));
+        Assertions.assertEquals(BitSet.valueOf(new long[] { 0b011 }), cancelled);
+
+        TestReusableEvent.EVENT_TYPE.removeListener(canceller);
+        TestReusableEvent.EVENT_TYPE.removeListener(listener);
     }
 }
@@ -0,0 +1,64 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.EventTypeHack;
+import xyz.apex.utils.events.Registration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+public final class FilterTests
+{
+    @Test
+    void filters()
+    {
+        var invoked = new ArrayList<String>();
+        var tests = new AtomicInteger();
+        Predicate<TestFilteredEvent> isHello = event -> {
+            tests.incrementAndGet();
+            return event.name.equals("hello");
+        };
+        var registrations = List.of(
+                TestFilteredEvent.EVENT_TYPE.addListener(isHello, event -> invoked.add("hello1")),
+                TestFilteredEvent.EVENT_TYPE.addListener(EventPriority.HIGH, true, event -> invoked.add("high")),
+                TestFilteredEvent.EVENT_TYPE.addListener(isHello, event -> invoked.add("hello2"))
+        );
+
+        // both filtered listeners share a single dispatch entry
+        Assertions.assertEquals(2, EventTypeHack.listeners(TestFilteredEvent.EVENT_TYPE).size());
+
+        TestFilteredEvent.EVENT_TYPE.post("hello");
+        TestFilteredEvent.EVENT_TYPE.post("world");
+        Assertions.assertEquals(List.of("high", "hello1", "hello2", "high"), invoked);
+        Assertions.assertEquals(2, tests.get(), "Shared filter was tested once per listener, expected once per post");
+
+        registrations.forEach(Registration::close);
+        Assertions.assertTrue(EventTypeHack.listeners(TestFilteredEvent.EVENT_TYPE).isEmpty());
+    }
+
+    @Test
+    void keyed()
+    {
+        var invoked = new ArrayList<String>();
+        var registrations = new ArrayList<Registration>();
+        for(var i = 0; i < 100; i++) registrations.add(TestFilteredEvent.EVENT_TYPE.addListener(TestFilteredEvent.NAME, "key" + i, event -> invoked.add(event.name)));
+        var hello = TestFilteredEvent.EVENT_TYPE.addListener(EventPriority.NORMAL, false, TestFilteredEvent.NAME, "key1", event -> invoked.add("notCancelled"));
+        registrations.add(TestFilteredEvent.EVENT_TYPE.addListener(EventPriority.HIGH, true, TestFilteredEvent.NAME, "key2", TestFilteredEvent::cancel));
+
+        // every keyed listener sharing a priority & receiveCancelled is indexed behind a single dispatch entry
+        Assertions.assertEquals(3, EventTypeHack.listeners(TestFilteredEvent.EVENT_TYPE).size());
+
+        TestFilteredEvent.EVENT_TYPE.post("key1");
+        TestFilteredEvent.EVENT_TYPE.post("key2");
+        TestFilteredEvent.EVENT_TYPE.post("missing");
+        Assertions.assertEquals(List.of("key1", "notCancelled", "key2"), invoked);
+
+        hello.close();
+        registrations.forEach(Registration::close);
+        Assertions.assertTrue(EventTypeHack.listeners(TestFilteredEvent.EVENT_TYPE).isEmpty());
+    }
+}
@@ -0,0 +1,58 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.EventTypeHack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class HierarchyTests
+{
+    @Test
+    void hierarchy()
+    {
+        // child is registered before its parent, parent must still link itself to the child
+        var childType = TestChildEvent.EVENT_TYPE;
+        var parentType = TestParentEvent.EVENT_TYPE;
+        Assertions.assertSame(childType, EventType.lookup(TestChildEvent.class));
+        Assertions.assertSame(parentType, EventType.lookup(TestParentEvent.class));
+
+        var invoked = new ArrayList<String>();
+        Consumer<TestParentEvent> parentHigh = event -> invoked.add("parentHigh");
+        Consumer<TestChildEvent> child = event -> {
+            invoked.add("child");
+            event.cancel();
+        };
+        Consumer<TestParentEvent> parentNormal = event -> invoked.add("parentNormal");
+        parentType.addListener(EventPriority.HIGH, parentHigh);
+        childType.addListener(child);
+        parentType.addListener(EventPriority.NORMAL, false, parentNormal);
+
+        var result = childType.post();
+        Assertions.assertTrue(result::wasCancelled, "Cancelable event was not cancelled, was expected to have been");
+        Assertions.assertEquals(List.of("parentHigh", "child"), invoked);
+        Assertions.assertEquals(3, EventTypeHack.listeners(childType).size());
+
+        parentType.removeListener(parentHigh);
+        parentType.removeListener(parentNormal);
+        Assertions.assertEquals(List.of(child), EventTypeHack.listeners(childType), "Parent listeners were not removed from child");
+        childType.removeListener(child);
+
+        Assertions.assertThrows(RuntimeException.class, () -> {
+            parentType.addListener(parentHigh);
+
+            try
+            {
+                parentType.post();
+            }
+            finally
+            {
+                parentType.removeListener(parentHigh);
+            }
+        });
+    }
+}
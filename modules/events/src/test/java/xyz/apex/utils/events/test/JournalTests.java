@@ -0,0 +1,153 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventCodec;
+import xyz.apex.utils.events.EventCodecs;
+import xyz.apex.utils.events.EventJournal;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class JournalTests
+{
+    @Test
+    void recordAndReplay() throws Exception
+    {
+        var path = Files.createTempFile("events", ".journal");
+
+        try
+        {
+            var invoked = new ArrayList<String>();
+            var registration = TestJournalEvent.EVENT_TYPE.addListener(event -> {
+                invoked.add(event.name + "=" + event.value);
+                if(event.value < 0) event.cancel();
+            });
+
+            try(var journal = EventJournal.create(path))
+            {
+                TestJournalEvent.EVENT_TYPE.startRecording(journal);
+                TestJournalEvent.EVENT_TYPE.post("a", 1);
+                TestJournalEvent.EVENT_TYPE.postForOutcome("b", -1);
+                TestJournalEvent.EVENT_TYPE.post(new Object[] { null, 2 });
+                Assertions.assertEquals(3L, journal.records());
+            }
+
+            // closing the journal stops every event type recording to it
+            Assertions.assertNull(TestJournalEvent.EVENT_TYPE.journal());
+            invoked.clear();
+
+            var report = EventJournal.replay(path);
+            registration.close();
+
+            Assertions.assertEquals(List.of("a=1", "b=-1", "null=2"), invoked);
+            Assertions.assertEquals(3L, report.events());
+            Assertions.assertEquals(1, report.types().size());
+            var throughput = report.types().get(0);
+            Assertions.assertEquals(TestJournalEvent.EVENT_TYPE, throughput.eventType());
+            Assertions.assertEquals(3L, throughput.events());
+            Assertions.assertEquals(0L, throughput.mismatches(), "Replayed outcomes differ from recorded outcomes");
+        }
+        finally
+        {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void chunks() throws Exception
+    {
+        var path = Files.createTempFile("events", ".journal");
+
+        try
+        {
+            // large enough args to span multiple chunks of the journal
+            var name = "x".repeat(1000);
+
+            try(var journal = EventJournal.create(path))
+            {
+                TestJournalEvent.EVENT_TYPE.startRecording(journal);
+                for(var i = 0; i < 5000; i++) TestJournalEvent.EVENT_TYPE.post(name, i);
+                TestJournalEvent.EVENT_TYPE.stopRecording();
+            }
+
+            var values = new ArrayList<Integer>();
+            var registration = TestJournalEvent.EVENT_TYPE.addListener(event -> values.add(event.value));
+            var report = EventJournal.replay(path);
+            registration.close();
+
+            Assertions.assertEquals(5000L, report.events());
+            for(var i = 0; i < 5000; i++) Assertions.assertEquals(i, values.get(i));
+            // nothing was listening while recording, every event was recorded as passed
+            Assertions.assertEquals(5000L, report.types().get(0).mismatches());
+        }
+        finally
+        {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void supertypeCodecs() throws Exception
+    {
+        var path = Files.createTempFile("events", ".journal");
+        var codecs = EventCodecs.defaults().register(CharSequence.class, new EventCodec<>() {
+            @Override
+            public void encode(CharSequence value, ByteBuffer buffer)
+            {
+                buffer.putInt(value.length());
+                value.chars().forEach(c -> buffer.putChar((char) c));
+            }
+
+            @Override
+            public CharSequence decode(ByteBuffer buffer)
+            {
+                var chars = new char[buffer.getInt()];
+                for(var i = 0; i < chars.length; i++) chars[i] = buffer.getChar();
+                return new String(chars);
+            }
+        });
+
+        try
+        {
+            try(var journal = EventJournal.create(path, codecs))
+            {
+                TestSequenceEvent.EVENT_TYPE.startRecording(journal);
+                // no codec is registered for StringBuilder itself, recorded through the CharSequence codec
+                TestSequenceEvent.EVENT_TYPE.post(new StringBuilder("builder"));
+                Assertions.assertEquals(1L, journal.records());
+            }
+
+            var invoked = new ArrayList<String>();
+            var registration = TestSequenceEvent.EVENT_TYPE.addListener(event -> invoked.add(event.value.toString()));
+            EventJournal.replay(path, Double.POSITIVE_INFINITY, codecs);
+            registration.close();
+            Assertions.assertEquals(List.of("builder"), invoked);
+        }
+        finally
+        {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void unsupportedArgs() throws Exception
+    {
+        var path = Files.createTempFile("events", ".journal");
+
+        try(var journal = EventJournal.create(path))
+        {
+            TestArgsEvent.EVENT_TYPE.startRecording(journal);
+            // args are checked before posting, so nothing is posted when an arg can not be recorded
+            Assertions.assertThrows(IllegalStateException.class, () -> TestArgsEvent.EVENT_TYPE.post(new StringBuilder(), 1));
+            TestArgsEvent.EVENT_TYPE.post("a", 1);
+            Assertions.assertEquals(1L, journal.records());
+        }
+        finally
+        {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package xyz.apex.utils.events.test;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventResult;
 
 import java.util.Optional;
 
@@ -53,4 +54,27 @@ public final class MappingTests
         var mapped = result.mapToDouble(e -> 1D).orElse(0D);
         Assertions.assertEquals(1D, mapped);
     }
+
+    @Test
+    void mapWithDefaults()
+    {
+        var result = TestEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(1, result.mapToInt(e -> 1, 0));
+        Assertions.assertEquals(1L, result.mapToLong(e -> 1L, 0L));
+        Assertions.assertEquals(1D, result.mapToDouble(e -> 1D, 0D));
+
+        var passed = EventResult.pass(TestEvent.EVENT_TYPE);
+        Assertions.assertEquals(0, passed.mapToInt(e -> 1, 0));
+        Assertions.assertEquals(0L, passed.mapToLong(e -> 1L, 0L));
+        Assertions.assertEquals(0D, passed.mapToDouble(e -> 1D, 0D));
+    }
+
+    @Test
+    void switchOn()
+    {
+        var result = TestEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(1, result.switchOn(0, 1, 2));
+        Assertions.assertEquals(1, EventResult.switchOn(TestEvent.EVENT_TYPE.postForOutcome(), 0, 1, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EventResult.switchOn(-1, 0, 1, 2));
+    }
 }
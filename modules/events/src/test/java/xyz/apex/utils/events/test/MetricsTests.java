@@ -0,0 +1,91 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventMetrics;
+import xyz.apex.utils.events.EventPriority;
+
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public final class MetricsTests
+{
+    @Test
+    void metrics()
+    {
+        Assertions.assertNull(TestMetricsEvent.EVENT_TYPE.metrics(), "Metrics were enabled by default");
+        var metrics = TestMetricsEvent.EVENT_TYPE.enableMetrics();
+        Assertions.assertSame(metrics, TestMetricsEvent.EVENT_TYPE.enableMetrics());
+        TestMetricsEvent.EVENT_TYPE.post(0);
+
+        Consumer<TestMetricsEvent> canceller = event -> {
+            if(event.value % 2 == 1) event.cancel();
+        };
+        Consumer<TestMetricsEvent> slow = event -> LockSupport.parkNanos(1_000_000L);
+        TestMetricsEvent.EVENT_TYPE.addListener(EventPriority.HIGH, canceller);
+        TestMetricsEvent.EVENT_TYPE.addListener(EventPriority.LOW, false, slow);
+
+        for(var i = 0; i < 3; i++) TestMetricsEvent.EVENT_TYPE.postForOutcome(i);
+        TestMetricsEvent.EVENT_TYPE.postAll(List.of(3, 4));
+
+        var snapshot = metrics.snapshot();
+        Assertions.assertEquals(6L, snapshot.posts());
+        Assertions.assertEquals(1L, snapshot.passed());
+        Assertions.assertEquals(3L, snapshot.successful());
+        Assertions.assertEquals(2L, snapshot.cancelled());
+
+        // batched posts are not timed
+        Assertions.assertEquals(2, snapshot.listeners().size());
+        Assertions.assertSame(canceller, snapshot.listeners().get(0).listener());
+        Assertions.assertEquals(3L, snapshot.listeners().get(0).latency().count());
+
+        var latency = snapshot.listeners().get(1).latency();
+        Assertions.assertEquals(2L, latency.count(), "Listener not wanting cancelled events was timed for a cancelled event");
+        Assertions.assertTrue(latency.percentile(50D) >= 1_000_000L * 7 / 8, "Recorded latency was lower than the time spent in the listener");
+        Assertions.assertTrue(latency.percentile(100D) <= latency.max());
+
+        metrics.reset();
+        Assertions.assertEquals(0L, metrics.snapshot().posts());
+        TestMetricsEvent.EVENT_TYPE.disableMetrics();
+        Assertions.assertNull(TestMetricsEvent.EVENT_TYPE.metrics());
+
+        TestMetricsEvent.EVENT_TYPE.removeListener(canceller);
+        TestMetricsEvent.EVENT_TYPE.removeListener(slow);
+    }
+
+    @Test
+    void prunesRemovedListeners()
+    {
+        var metrics = TestMetricsEvent.EVENT_TYPE.enableMetrics();
+        Predicate<TestMetricsEvent> even = event -> event.value % 2 == 0;
+        Consumer<TestMetricsEvent> first = event -> { };
+        Consumer<TestMetricsEvent> second = event -> { };
+        Consumer<TestMetricsEvent> ungrouped = event -> { };
+        var firstRegistration = TestMetricsEvent.EVENT_TYPE.addListener(even, first);
+        var secondRegistration = TestMetricsEvent.EVENT_TYPE.addListener(even, second);
+        var ungroupedRegistration = TestMetricsEvent.EVENT_TYPE.addListener(ungrouped);
+
+        try
+        {
+            TestMetricsEvent.EVENT_TYPE.post(0);
+            // grouped listeners are timed individually, never as their group
+            var listeners = metrics.snapshot().listeners().stream().map(EventMetrics.ListenerLatency::listener).toList();
+            Assertions.assertEquals(List.of(first, second, ungrouped), listeners);
+
+            secondRegistration.close();
+            ungroupedRegistration.close();
+            TestMetricsEvent.EVENT_TYPE.post(0);
+            listeners = metrics.snapshot().listeners().stream().map(EventMetrics.ListenerLatency::listener).toList();
+            Assertions.assertEquals(List.of(first), listeners, "Removed listeners were still reported");
+        }
+        finally
+        {
+            firstRegistration.close();
+            secondRegistration.close();
+            ungroupedRegistration.close();
+            TestMetricsEvent.EVENT_TYPE.disableMetrics();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.Backpressure;
+import xyz.apex.utils.events.QueuedEventBus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public final class QueuedEventBusTests
+{
+    @Test
+    void producers() throws Exception
+    {
+        var owner = Thread.currentThread();
+        var values = new ArrayList<Integer>();
+        Consumer<TestQueuedEvent> listener = event -> {
+            Assertions.assertSame(owner, Thread.currentThread(), "Queued event was posted off the draining thread");
+            values.add(event.value);
+        };
+        TestQueuedEvent.EVENT_TYPE.addListener(listener);
+
+        try(var bus = QueuedEventBus.create(4096, Backpressure.REJECT))
+        {
+            var producers = new ArrayList<Thread>();
+
+            for(var i = 0; i < 4; i++)
+            {
+                var offset = i * 1000;
+                var producer = new Thread(() -> {
+                    for(var j = 0; j < 1000; j++) Assertions.assertTrue(bus.enqueue(TestQueuedEvent.EVENT_TYPE, offset + j));
+                });
+                producers.add(producer);
+                producer.start();
+            }
+
+            for(var producer : producers) producer.join();
+            Assertions.assertEquals(4000, bus.depth(TestQueuedEvent.EVENT_TYPE));
+            Assertions.assertEquals(4000, bus.drain());
+            Assertions.assertEquals(0, bus.depth(TestQueuedEvent.EVENT_TYPE));
+        }
+
+        Assertions.assertEquals(4000, values.size());
+        Assertions.assertEquals(4000, values.stream().distinct().count(), "Queued events were posted more than once");
+        TestQueuedEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void backpressure()
+    {
+        var values = new ArrayList<Integer>();
+        Consumer<TestQueuedEvent> listener = event -> values.add(event.value);
+        TestQueuedEvent.EVENT_TYPE.addListener(listener);
+
+        try(var bus = QueuedEventBus.create(2, Backpressure.REJECT))
+        {
+            Assertions.assertTrue(bus.enqueue(TestQueuedEvent.EVENT_TYPE, 0));
+            Assertions.assertTrue(bus.enqueue(TestQueuedEvent.EVENT_TYPE, 1));
+            Assertions.assertFalse(bus.enqueue(TestQueuedEvent.EVENT_TYPE, 2), "Full bus accepted event, was expected to reject it");
+            Assertions.assertEquals(2, bus.depth(TestQueuedEvent.EVENT_TYPE));
+            bus.drain();
+        }
+
+        Assertions.assertEquals(List.of(0, 1), values);
+        values.clear();
+
+        try(var bus = QueuedEventBus.create(2, Backpressure.DROP_OLDEST))
+        {
+            for(var i = 0; i < 5; i++) Assertions.assertTrue(bus.enqueue(TestQueuedEvent.EVENT_TYPE, i));
+            Assertions.assertEquals(2, bus.depth(TestQueuedEvent.EVENT_TYPE));
+            bus.drain();
+        }
+
+        Assertions.assertEquals(List.of(3, 4), values);
+        TestQueuedEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void dedicatedThread() throws Exception
+    {
+        var latch = new CountDownLatch(100);
+        var threads = new ArrayList<Thread>();
+        Consumer<TestQueuedEvent> listener = event -> {
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        };
+        TestQueuedEvent.EVENT_TYPE.addListener(listener);
+
+        try(var bus = QueuedEventBus.create(8, Backpressure.BLOCK).start())
+        {
+            for(var i = 0; i < 100; i++) bus.enqueue(TestQueuedEvent.EVENT_TYPE, i);
+            Assertions.assertTrue(latch.await(5L, TimeUnit.SECONDS), "Dedicated thread failed to drain queued events");
+        }
+
+        Assertions.assertEquals(1L, threads.stream().distinct().count(), "Queued events were posted on more than one thread");
+        Assertions.assertNotSame(Thread.currentThread(), threads.get(0));
+        TestQueuedEvent.EVENT_TYPE.removeListener(listener);
+    }
+}
@@ -0,0 +1,64 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.EventTypeHack;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class RegistrationTests
+{
+    @Test
+    void registration()
+    {
+        var invoked = new ArrayList<String>();
+        Consumer<TestWeakEvent> listener = event -> invoked.add("listener");
+
+        try(var registration = TestWeakEvent.EVENT_TYPE.addListener(listener))
+        {
+            Assertions.assertTrue(registration.isRegistered());
+            Assertions.assertSame(TestWeakEvent.EVENT_TYPE, registration.eventType());
+            TestWeakEvent.EVENT_TYPE.post();
+        }
+
+        TestWeakEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(List.of("listener"), invoked, "Closed registration was still invoked");
+        Assertions.assertTrue(EventTypeHack.listeners(TestWeakEvent.EVENT_TYPE).isEmpty());
+
+        // removing by identity also marks the registration as unregistered
+        var registration = TestWeakEvent.EVENT_TYPE.addListener(listener);
+        TestWeakEvent.EVENT_TYPE.removeListener(listener);
+        Assertions.assertFalse(registration.isRegistered());
+        Assertions.assertDoesNotThrow(registration::close);
+    }
+
+    @Test
+    void weakListeners() throws Exception
+    {
+        var invoked = new ArrayList<String>();
+        Consumer<TestWeakEvent> strong = event -> invoked.add("strong");
+        var strongRegistration = TestWeakEvent.EVENT_TYPE.addWeakListener(strong);
+        var weakRegistration = TestWeakEvent.EVENT_TYPE.addWeakListener(EventPriority.HIGH, true, event -> invoked.add("collected"));
+        var collected = new WeakReference<>(new Object());
+
+        for(var i = 0; i < 50 && collected.get() != null; i++)
+        {
+            System.gc();
+            Thread.sleep(10L);
+        }
+
+        Assertions.assertFalse(weakRegistration.isRegistered(), "Weak listener was not collected");
+        TestWeakEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(List.of("strong"), invoked);
+        // collected listener is only purged once listeners change
+        Assertions.assertEquals(2, EventTypeHack.listeners(TestWeakEvent.EVENT_TYPE).size());
+
+        TestWeakEvent.EVENT_TYPE.removeListener(strong);
+        Assertions.assertFalse(strongRegistration.isRegistered());
+        Assertions.assertTrue(EventTypeHack.listeners(TestWeakEvent.EVENT_TYPE).isEmpty(), "Collected weak listener was not purged");
+    }
+}
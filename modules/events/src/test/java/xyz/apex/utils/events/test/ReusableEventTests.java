@@ -0,0 +1,56 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public final class ReusableEventTests
+{
+    @Test
+    void reused()
+    {
+        var seen = new AtomicReference<TestReusableEvent>();
+        Consumer<TestReusableEvent> listener = event -> {
+            Assertions.assertFalse(event.wasCancelled(), "Pooled event was not reset before being reused");
+            seen.set(event);
+            if(event.value == 1) event.cancel();
+        };
+
+        TestReusableEvent.EVENT_TYPE.addListener(listener);
+
+        var result = TestReusableEvent.EVENT_TYPE.post(1);
+        var first = seen.get();
+        Assertions.assertTrue(result::wasCancelled, "Reusable event was not cancelled, was expected to have been");
+
+        var result1 = TestReusableEvent.EVENT_TYPE.post(2);
+        Assertions.assertSame(first, seen.get(), "Reusable event was not reused");
+        Assertions.assertEquals(2, first.value);
+        Assertions.assertTrue(result1::wasSuccess, "Reusable event failed to post, expected success");
+        Assertions.assertSame(result1, TestReusableEvent.EVENT_TYPE.post(3), "Reusable event results were not cached");
+
+        TestReusableEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void nested()
+    {
+        var outer = new AtomicReference<TestReusableEvent>();
+        var inner = new AtomicReference<TestReusableEvent>();
+        Consumer<TestReusableEvent> listener = event -> {
+            if(event.value == 1)
+            {
+                outer.set(event);
+                TestReusableEvent.EVENT_TYPE.post(2);
+                Assertions.assertEquals(1, event.value, "Nested post overwrote the in use pooled event");
+            }
+            else inner.set(event);
+        };
+
+        TestReusableEvent.EVENT_TYPE.addListener(listener);
+        TestReusableEvent.EVENT_TYPE.post(1);
+        Assertions.assertNotSame(outer.get(), inner.get());
+        TestReusableEvent.EVENT_TYPE.removeListener(listener);
+    }
+}
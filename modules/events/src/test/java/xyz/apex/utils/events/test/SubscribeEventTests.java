@@ -0,0 +1,80 @@
+package xyz.apex.utils.events.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+import xyz.apex.utils.events.SubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class SubscribeEventTests
+{
+    @Test
+    void instances()
+    {
+        var invoked = new ArrayList<String>();
+        var subscriber = new TestSubscriber(invoked);
+        var subscriber1 = new TestSubscriber(invoked);
+        EventType.subscribe(subscriber);
+        EventType.subscribe(subscriber1);
+
+        TestArgsEvent.EVENT_TYPE.post("hello", 1);
+        Assertions.assertEquals(List.of("hello", "hello"), invoked);
+        Assertions.assertTrue(TestSubscriber.STATIC_INVOKED.isEmpty(), "Static method was subscribed by subscribing an instance");
+
+        invoked.clear();
+        Consumer<TestCancelableEvent> canceller = SimpleCancelableEvent::cancel;
+        // cancels before the subscriber, which is registered at the default priority
+        TestCancelableEvent.EVENT_TYPE.addListener(EventPriority.HIGHEST, canceller);
+        TestCancelableEvent.EVENT_TYPE.post();
+        Assertions.assertTrue(invoked.isEmpty(), "Subscriber not wanting cancelled events was invoked for a cancelled event");
+        TestCancelableEvent.EVENT_TYPE.removeListener(canceller);
+
+        EventType.unsubscribe(subscriber);
+        TestArgsEvent.EVENT_TYPE.post("world", 2);
+        Assertions.assertEquals(List.of("world"), invoked);
+
+        EventType.unsubscribe(subscriber1);
+        TestArgsEvent.EVENT_TYPE.post("unsubscribed", 3);
+        Assertions.assertEquals(List.of("world"), invoked, "Unsubscribed listeners were still invoked");
+    }
+
+    @Test
+    void inheritedPrivate()
+    {
+        var invoked = new ArrayList<String>();
+        // private methods of the superclass are bound through the superclass, not the subclass being subscribed
+        var subscriber = new TestSubscriber(invoked) { };
+        EventType.subscribe(subscriber);
+        TestArgsEvent.EVENT_TYPE.post("inherited", 1);
+        EventType.unsubscribe(subscriber);
+        Assertions.assertEquals(List.of("inherited"), invoked);
+    }
+
+    @Test
+    void statics()
+    {
+        EventType.subscribe(TestSubscriber.class);
+        TestArgsEvent.EVENT_TYPE.post("static", 1);
+        EventType.unsubscribe(TestSubscriber.class);
+        TestArgsEvent.EVENT_TYPE.post("static", 2);
+
+        Assertions.assertEquals(List.of("static"), TestSubscriber.STATIC_INVOKED);
+        TestSubscriber.STATIC_INVOKED.clear();
+    }
+
+    @Test
+    void invalid()
+    {
+        Assertions.assertThrows(IllegalStateException.class, () -> EventType.subscribe(new Object() {
+            @SubscribeEvent
+            public void invalid(String value)
+            {
+            }
+        }));
+    }
+}
@@ -0,0 +1,18 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+
+public final class TestArgsEvent implements Event
+{
+    public static final EventType<TestArgsEvent> EVENT_TYPE = EventType.register(TestArgsEvent.class, String.class, Integer.class);
+
+    public final String name;
+    public final Integer value;
+
+    public TestArgsEvent(String name, Integer value)
+    {
+        this.name = name;
+        this.value = value;
+    }
+}
@@ -0,0 +1,16 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestAsyncEvent extends SimpleCancelableEvent
+{
+    public static final EventType<TestAsyncEvent> EVENT_TYPE = EventType.register(TestAsyncEvent.class, Integer.class);
+
+    public final int value;
+
+    public TestAsyncEvent(Integer value)
+    {
+        this.value = value;
+    }
+}
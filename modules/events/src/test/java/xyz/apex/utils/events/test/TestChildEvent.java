@@ -0,0 +1,9 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestChildEvent extends SimpleCancelableEvent implements TestParentEvent
+{
+    public static final EventType<TestChildEvent> EVENT_TYPE = EventType.register(TestChildEvent.class);
+}
@@ -0,0 +1,18 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+
+public final class TestCoalescedEvent implements Event
+{
+    public static final EventType<TestCoalescedEvent> EVENT_TYPE = EventType.register(TestCoalescedEvent.class, String.class, Integer.class);
+
+    public final String name;
+    public final Integer value;
+
+    public TestCoalescedEvent(String name, Integer value)
+    {
+        this.name = name;
+        this.value = value;
+    }
+}
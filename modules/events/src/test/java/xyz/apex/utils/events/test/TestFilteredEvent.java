@@ -0,0 +1,18 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventKey;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestFilteredEvent extends SimpleCancelableEvent
+{
+    public static final EventType<TestFilteredEvent> EVENT_TYPE = EventType.register(TestFilteredEvent.class, String.class);
+    public static final EventKey<TestFilteredEvent, String> NAME = EventKey.of(event -> event.name);
+
+    public final String name;
+
+    public TestFilteredEvent(String name)
+    {
+        this.name = name;
+    }
+}
@@ -0,0 +1,9 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestIsolatedEvent extends SimpleCancelableEvent
+{
+    public static final EventType<TestIsolatedEvent> EVENT_TYPE = EventType.builder(TestIsolatedEvent.class).disableAfter(2).register();
+}
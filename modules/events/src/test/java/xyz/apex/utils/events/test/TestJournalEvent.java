@@ -0,0 +1,18 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestJournalEvent extends SimpleCancelableEvent
+{
+    public static final EventType<TestJournalEvent> EVENT_TYPE = EventType.register(TestJournalEvent.class, String.class, Integer.class);
+
+    public final String name;
+    public final Integer value;
+
+    public TestJournalEvent(String name, Integer value)
+    {
+        this.name = name;
+        this.value = value;
+    }
+}
@@ -0,0 +1,16 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestMetricsEvent extends SimpleCancelableEvent
+{
+    public static final EventType<TestMetricsEvent> EVENT_TYPE = EventType.register(TestMetricsEvent.class, Integer.class);
+
+    public final int value;
+
+    public TestMetricsEvent(Integer value)
+    {
+        this.value = value;
+    }
+}
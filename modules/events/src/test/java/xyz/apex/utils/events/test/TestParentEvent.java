@@ -0,0 +1,9 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+
+public interface TestParentEvent extends Event
+{
+    EventType<TestParentEvent> EVENT_TYPE = EventType.register(TestParentEvent.class);
+}
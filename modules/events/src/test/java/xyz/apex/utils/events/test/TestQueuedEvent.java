@@ -0,0 +1,16 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+
+public final class TestQueuedEvent implements Event
+{
+    public static final EventType<TestQueuedEvent> EVENT_TYPE = EventType.register(TestQueuedEvent.class, Integer.class);
+
+    public final int value;
+
+    public TestQueuedEvent(Integer value)
+    {
+        this.value = value;
+    }
+}
@@ -0,0 +1,24 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.ReusableEvent;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestReusableEvent extends SimpleCancelableEvent implements ReusableEvent
+{
+    public static final EventType<TestReusableEvent> EVENT_TYPE = EventType.builder(TestReusableEvent.class, Integer.class).reusable().register();
+
+    public int value = -1;
+
+    public void init(Integer value)
+    {
+        this.value = value;
+    }
+
+    @Override
+    public void reset()
+    {
+        value = -1;
+        clearCancelled();
+    }
+}
@@ -0,0 +1,16 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+
+public final class TestSequenceEvent implements Event
+{
+    public static final EventType<TestSequenceEvent> EVENT_TYPE = EventType.register(TestSequenceEvent.class, CharSequence.class);
+
+    public final CharSequence value;
+
+    public TestSequenceEvent(CharSequence value)
+    {
+        this.value = value;
+    }
+}
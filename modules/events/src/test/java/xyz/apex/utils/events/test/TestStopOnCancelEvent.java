@@ -0,0 +1,9 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestStopOnCancelEvent extends SimpleCancelableEvent
+{
+    public static final EventType<TestStopOnCancelEvent> EVENT_TYPE = EventType.builder(TestStopOnCancelEvent.class).stopOnCancel().register();
+}
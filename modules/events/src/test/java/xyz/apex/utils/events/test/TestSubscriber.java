@@ -0,0 +1,42 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.SubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestSubscriber
+{
+    public static final List<String> STATIC_INVOKED = new ArrayList<>();
+
+    private final List<String> invoked;
+
+    public TestSubscriber(List<String> invoked)
+    {
+        this.invoked = invoked;
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    private void onArgs(TestArgsEvent event)
+    {
+        invoked.add(event.name);
+    }
+
+    @SubscribeEvent(receiveCancelled = false)
+    public void onCancelable(TestCancelableEvent event)
+    {
+        invoked.add("cancelable");
+    }
+
+    @SubscribeEvent
+    static void onStatic(TestArgsEvent event)
+    {
+        STATIC_INVOKED.add(event.name);
+    }
+
+    public void notSubscribed(TestArgsEvent event)
+    {
+        invoked.add("notSubscribed");
+    }
+}
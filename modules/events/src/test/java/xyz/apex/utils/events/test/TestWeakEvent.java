@@ -0,0 +1,9 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+
+public final class TestWeakEvent implements Event
+{
+    public static final EventType<TestWeakEvent> EVENT_TYPE = EventType.register(TestWeakEvent.class);
+}